@@ -0,0 +1,35 @@
+package io.github.smit_joshi814.spring.boot.result.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ *
+ * <p>Runs every benchmark in this package with the GC profiler attached, so each score is
+ * reported together with its allocation rate ({@code gc.alloc.rate.norm} is bytes allocated per
+ * operation). {@link EncodedSizeProfiler} adds the encoded envelope sizes of
+ * {@link BinaryEncodingBenchmark}. Any regular JMH command line option may be passed, e.g. a
+ * benchmark regex or {@code -f 1 -wi 3 -i 5} for a quick run.</p>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(BenchmarkRunner.class.getPackageName() + ".*");
+        }
+        options.addProfiler(GCProfiler.class);
+        options.addProfiler(EncodedSizeProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
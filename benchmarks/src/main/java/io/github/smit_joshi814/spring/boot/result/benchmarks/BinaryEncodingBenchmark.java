@@ -0,0 +1,85 @@
+package io.github.smit_joshi814.spring.boot.result.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.ResultJacksonModule;
+
+/**
+ * Encoding and decoding a {@code Result<List<Item>>} envelope as JSON, CBOR and Smile. The encoded
+ * size of each format is reported as {@code encodedBytes} by {@link EncodedSizeProfiler}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryEncodingBenchmark {
+
+    public record Item(long id, String name, double price, boolean available) {
+    }
+
+    @Param({ "json", "cbor", "smile" })
+    public String format;
+
+    @Param({ "1", "100" })
+    public int items;
+
+    private ObjectMapper mapper;
+    private ObjectReader reader;
+    private Result<List<Item>> result;
+    private byte[] encoded;
+
+    // Size of the envelope encoded in setup, read by EncodedSizeProfiler in the forked JVM
+    static volatile int encodedSize = -1;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = new ObjectMapper(factory).registerModule(new ResultJacksonModule());
+        reader = mapper.readerFor(new TypeReference<Result<List<Item>>>() {
+        });
+        result = Result.success(IntStream.range(0, items)
+                .mapToObj(i -> new Item(i, "item-" + i, i * 1.5, i % 2 == 0))
+                .toList());
+        encoded = mapper.writeValueAsBytes(result);
+        encodedSize = encoded.length;
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(result);
+    }
+
+    @Benchmark
+    public Result<List<Item>> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.smit_joshi814.spring.boot.result.benchmarks;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Reports the envelope size of {@link BinaryEncodingBenchmark} as the {@code encodedBytes}
+ * secondary result, averaged over iterations.
+ *
+ * <p>An {@code @AuxCounters} event counter would be summed over the measurement iterations, so the
+ * size is read from the benchmark in the forked JVM instead. Other benchmarks get no result.</p>
+ */
+public final class EncodedSizeProfiler implements InternalProfiler {
+
+    @Override
+    public String getDescription() {
+        return "Encoded envelope size of BinaryEncodingBenchmark";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+            IterationParams iterationParams, IterationResult result) {
+        int size = BinaryEncodingBenchmark.encodedSize;
+        if (size < 0 || !benchmarkParams.getBenchmark().startsWith(BinaryEncodingBenchmark.class.getName() + ".")) {
+            return List.of();
+        }
+        return List.of(new ScalarResult("encodedBytes", size, "B", AggregationPolicy.AVG));
+    }
+}
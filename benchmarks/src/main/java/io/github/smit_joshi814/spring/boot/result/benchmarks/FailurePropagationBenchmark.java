@@ -0,0 +1,61 @@
+package io.github.smit_joshi814.spring.boot.result.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+
+/**
+ * A ten stage pipeline whose input has already failed.
+ *
+ * <p>Every stage is skipped, so {@code gc.alloc.rate.norm} is expected to be ~0 B/op.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FailurePropagationBenchmark {
+
+    private final Result<Integer> failure = Result.entityNotFoundError("User not found");
+
+    @Benchmark
+    public Result<Integer> mapChain() {
+        return failure
+                .map(value -> value + 1)
+                .map(value -> value + 1)
+                .map(value -> value + 1)
+                .map(value -> value + 1)
+                .map(value -> value + 1)
+                .map(value -> value + 1)
+                .map(value -> value + 1)
+                .map(value -> value + 1)
+                .map(value -> value + 1)
+                .map(value -> value + 1);
+    }
+
+    @Benchmark
+    public Result<Integer> flatMapChain() {
+        return failure
+                .flatMap(value -> Result.success(value + 1))
+                .flatMap(value -> Result.success(value + 1))
+                .flatMap(value -> Result.success(value + 1))
+                .flatMap(value -> Result.success(value + 1))
+                .flatMap(value -> Result.success(value + 1))
+                .flatMap(value -> Result.success(value + 1))
+                .flatMap(value -> Result.success(value + 1))
+                .flatMap(value -> Result.success(value + 1))
+                .flatMap(value -> Result.success(value + 1))
+                .flatMap(value -> Result.success(value + 1));
+    }
+}
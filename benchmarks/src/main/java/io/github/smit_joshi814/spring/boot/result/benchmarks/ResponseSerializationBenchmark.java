@@ -0,0 +1,66 @@
+package io.github.smit_joshi814.spring.boot.result.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.smit_joshi814.spring.boot.result.ResponseWrapper;
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.api.ResponseUtils;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.ResultJacksonModule;
+
+/**
+ * JSON serialization of the response envelope, with Jackson's record introspection versus the
+ * serializers of {@link ResultJacksonModule}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseSerializationBenchmark {
+
+    private final ObjectMapper plainMapper = new ObjectMapper();
+    private final ObjectMapper moduleMapper = new ObjectMapper().registerModule(new ResultJacksonModule());
+
+    private final Result<String> success = Result.success("user-42");
+    private final ResponseWrapper<String> successBody = ResponseUtils.asBody(success);
+    private final ResponseWrapper<String> failureBody = ResponseUtils.asBody(Result.entityNotFoundError("User not found"));
+
+    @Benchmark
+    public byte[] successIntrospected() throws JsonProcessingException {
+        return plainMapper.writeValueAsBytes(successBody);
+    }
+
+    @Benchmark
+    public byte[] successSerializer() throws JsonProcessingException {
+        return moduleMapper.writeValueAsBytes(successBody);
+    }
+
+    @Benchmark
+    public byte[] failureIntrospected() throws JsonProcessingException {
+        return plainMapper.writeValueAsBytes(failureBody);
+    }
+
+    @Benchmark
+    public byte[] failureSerializer() throws JsonProcessingException {
+        return moduleMapper.writeValueAsBytes(failureBody);
+    }
+
+    @Benchmark
+    public byte[] resultSerializer() throws JsonProcessingException {
+        return moduleMapper.writeValueAsBytes(success);
+    }
+}
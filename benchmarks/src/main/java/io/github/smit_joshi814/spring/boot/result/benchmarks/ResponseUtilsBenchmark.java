@@ -0,0 +1,49 @@
+package io.github.smit_joshi814.spring.boot.result.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import io.github.smit_joshi814.spring.boot.result.ResponseWrapper;
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.api.ResponseUtils;
+
+/**
+ * Cost of turning a Result into a ResponseEntity at the controller boundary.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseUtilsBenchmark {
+
+    private final Result<String> success = Result.success("user-42");
+    private final Result<String> notFound = Result.entityNotFoundError("User not found");
+    private final Result<String> failure = Result.failure("Something went wrong");
+
+    @Benchmark
+    public ResponseEntity<ResponseWrapper<String>> asResponseSuccess() {
+        return ResponseUtils.asResponse(success);
+    }
+
+    @Benchmark
+    public ResponseEntity<ResponseWrapper<String>> asResponseNotFound() {
+        return ResponseUtils.asResponse(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<ResponseWrapper<String>> asResponseFailure() {
+        return ResponseUtils.asResponse(failure);
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.smit_joshi814.spring.boot.result.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+
+/**
+ * Cost of map/flatMap/validate chains on successful Results, as written in a typical service method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultChainBenchmark {
+
+    private final Result<String> success = Result.success("user-42");
+
+    @Benchmark
+    public Result<Integer> map() {
+        return success.map(String::length);
+    }
+
+    @Benchmark
+    public Result<Integer> flatMap() {
+        return success.flatMap(value -> Result.success(value.length()));
+    }
+
+    @Benchmark
+    public Result<Integer> mixedChain() {
+        return success
+                .validate(value -> !value.isEmpty(), "Value is required")
+                .map(String::trim)
+                .flatMap(value -> Result.success(value.length()))
+                .map(length -> length * 2);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.smit_joshi814.spring.boot.result.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+
+/**
+ * Cost of combining lists of Results, with every element successful and with a failure in the middle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultCombineBenchmark {
+
+    @Param({ "10", "1000", "10000", "100000" })
+    private int size;
+
+    private List<Result<Integer>> successes;
+    private List<Result<Integer>> withFailure;
+
+    @Setup
+    public void setUp() {
+        successes = new ArrayList<>(size);
+        withFailure = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            successes.add(Result.success(i));
+            withFailure.add(i == size / 2 ? Result.validationError("Row " + i + " is invalid") : Result.success(i));
+        }
+    }
+
+    @Benchmark
+    public Result<List<Integer>> combineAllSuccessful() {
+        return Result.combine(successes);
+    }
+
+    @Benchmark
+    public Result<List<Integer>> combineWithFailure() {
+        return Result.combine(withFailure);
+    }
+
+    @Benchmark
+    public Result<List<Integer>> combineParallelAllSuccessful() {
+        return Result.combineParallel(successes);
+    }
+
+    @Benchmark
+    public Result<List<Integer>> combineAccumulatingErrorsWithFailure() {
+        return Result.combineAccumulatingErrors(withFailure);
+    }
+}
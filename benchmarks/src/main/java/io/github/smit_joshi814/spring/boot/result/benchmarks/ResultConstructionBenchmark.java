@@ -0,0 +1,59 @@
+package io.github.smit_joshi814.spring.boot.result.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+
+/**
+ * Cost of creating successful and failed Results through the static factories.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultConstructionBenchmark {
+
+    private final String user = "user-42";
+
+    @Benchmark
+    public Result<String> success() {
+        return Result.success(user);
+    }
+
+    @Benchmark
+    public Result<String> successWithMessage() {
+        return Result.success(user, "User loaded");
+    }
+
+    @Benchmark
+    public Result<Void> successWithoutData() {
+        return Result.success(null);
+    }
+
+    @Benchmark
+    public Result<Void> ok() {
+        return Result.ok();
+    }
+
+    @Benchmark
+    public Result<String> failure() {
+        return Result.failure("Something went wrong");
+    }
+
+    @Benchmark
+    public Result<String> entityNotFoundError() {
+        return Result.entityNotFoundError("User not found");
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.smit_joshi814.spring.boot.result;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.ValidationError;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultConstantsProvider;
+import io.github.smit_joshi814.spring.boot.result.internal.TransactionalOperation;
+
+/**
+ * Result specialised for {@code double} values.
+ * 
+ * <p>Behaves like {@code Result<Double>} but keeps the value unboxed through the whole chain, which
+ * matters on hot numeric endpoints (counters, prices). Use {@link #toResult()} and
+ * {@link #from(Result)} to cross over to the generic {@link Result}.</p>
+ * 
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * DoubleResult total = DoubleResult.success(price.amount())
+ *     .validate(v -> v >= 0, "Total must not be negative")
+ *     .map(v -> v * 2);
+ * return ResponseUtils.asResponse(total);
+ * }</pre>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class DoubleResult extends ResultBase implements TransactionalOperation {
+    private final double value;
+    private final String message;
+    // true when the message is the configured success message, looked up in getMessage()
+    private final boolean defaultMessage;
+
+    private DoubleResult(double value, String message, boolean defaultMessage) {
+        super(true, null);
+        this.value = value;
+        this.message = message;
+        this.defaultMessage = defaultMessage;
+    }
+
+    private DoubleResult(Error error) {
+        super(false, error);
+        this.value = 0;
+        this.message = error.getMessage();
+        this.defaultMessage = false;
+    }
+
+    public static DoubleResult success(double value) {
+        return new DoubleResult(value, null, true);
+    }
+
+    public static DoubleResult success(double value, String message) {
+        return new DoubleResult(value, message, false);
+    }
+
+    public static DoubleResult failure(Error error) {
+        return new DoubleResult(error);
+    }
+
+    public static DoubleResult failure(String message) {
+        return new DoubleResult(new Error(message));
+    }
+
+    /**
+     * Converts a generic Result into its {@code double} specialisation.
+     * 
+     * @param result the Result to convert
+     * @return DoubleResult carrying the unboxed value or the same error, or a failure with code
+     *         {@code NO_VALUE} if the Result is successful but holds no data
+     */
+    public static DoubleResult from(Result<Double> result) {
+        if (!result.isSuccess()) {
+            return new DoubleResult(result.getError() != null ? result.getError() : new Error(result.getMessage()));
+        }
+        if (result.getData() == null) {
+            return new DoubleResult(NO_VALUE);
+        }
+        if (result.hasDefaultMessage()) {
+            return new DoubleResult(result.getData(), null, true);
+        }
+        return new DoubleResult(result.getData(), result.getMessage(), false);
+    }
+
+    /**
+     * Returns the value of a successful result.
+     * 
+     * @return the value
+     * @throws NoSuchElementException if this result is a failure
+     */
+    public double getAsDouble() {
+        if (!isSuccess()) {
+            throw new NoSuchElementException("No value present in failed DoubleResult");
+        }
+        return value;
+    }
+
+    public String getMessage() {
+        if (defaultMessage) {
+            return ResultConstantsProvider.getResultConstants().getSuccessMessage();
+        }
+        return message;
+    }
+
+    @Override
+    public Boolean shouldRollback() {
+        return !isSuccess();
+    }
+
+    /**
+     * Boxes this result into a generic Result, keeping the message and error.
+     * 
+     * @return equivalent Result
+     */
+    public Result<Double> toResult() {
+        if (!isSuccess()) {
+            return Result.failure(getError());
+        }
+        return defaultMessage ? Result.success(value) : Result.success(value, message);
+    }
+
+    public DoubleResult map(DoubleUnaryOperator mapper) {
+        if (!isSuccess()) {
+            return this;
+        }
+        return success(mapper.applyAsDouble(value));
+    }
+
+    public <R> Result<R> mapToObj(DoubleFunction<R> mapper) {
+        if (!isSuccess()) {
+            return Result.failure(getError());
+        }
+        return Result.success(mapper.apply(value));
+    }
+
+    public IntResult mapToInt(DoubleToIntFunction mapper) {
+        if (!isSuccess()) {
+            return IntResult.failure(getError());
+        }
+        return IntResult.success(mapper.applyAsInt(value));
+    }
+
+    public LongResult mapToLong(DoubleToLongFunction mapper) {
+        if (!isSuccess()) {
+            return LongResult.failure(getError());
+        }
+        return LongResult.success(mapper.applyAsLong(value));
+    }
+
+    public DoubleResult flatMap(DoubleFunction<DoubleResult> mapper) {
+        if (!isSuccess()) {
+            return this;
+        }
+        return mapper.apply(value);
+    }
+
+    public DoubleResult validate(DoublePredicate predicate, String errorMessage) {
+        if (isSuccess() && !predicate.test(value)) {
+            return failure(new ValidationError(errorMessage));
+        }
+        return this;
+    }
+
+    public DoubleResult onSuccess(DoubleConsumer action) {
+        if (isSuccess()) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    public DoubleResult onFailure(Consumer<Error> action) {
+        if (!isSuccess()) {
+            action.accept(getError());
+        }
+        return this;
+    }
+
+    public DoubleResult orElse(DoubleResult alternative) {
+        return isSuccess() ? this : alternative;
+    }
+
+    public double orElse(double other) {
+        return isSuccess() ? value : other;
+    }
+
+    public double orElseGet(DoubleSupplier supplier) {
+        return isSuccess() ? value : supplier.getAsDouble();
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.smit_joshi814.spring.boot.result;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.ValidationError;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultConstantsProvider;
+import io.github.smit_joshi814.spring.boot.result.internal.TransactionalOperation;
+
+/**
+ * Result specialised for {@code int} values.
+ * 
+ * <p>Behaves like {@code Result<Integer>} but keeps the value unboxed through the whole chain, which
+ * matters on hot numeric endpoints (counters, prices). Use {@link #toResult()} and
+ * {@link #from(Result)} to cross over to the generic {@link Result}.</p>
+ * 
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * IntResult total = IntResult.success(counter.incrementAndGet())
+ *     .validate(v -> v >= 0, "Total must not be negative")
+ *     .map(v -> v * 2);
+ * return ResponseUtils.asResponse(total);
+ * }</pre>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class IntResult extends ResultBase implements TransactionalOperation {
+    private final int value;
+    private final String message;
+    // true when the message is the configured success message, looked up in getMessage()
+    private final boolean defaultMessage;
+
+    private IntResult(int value, String message, boolean defaultMessage) {
+        super(true, null);
+        this.value = value;
+        this.message = message;
+        this.defaultMessage = defaultMessage;
+    }
+
+    private IntResult(Error error) {
+        super(false, error);
+        this.value = 0;
+        this.message = error.getMessage();
+        this.defaultMessage = false;
+    }
+
+    public static IntResult success(int value) {
+        return new IntResult(value, null, true);
+    }
+
+    public static IntResult success(int value, String message) {
+        return new IntResult(value, message, false);
+    }
+
+    public static IntResult failure(Error error) {
+        return new IntResult(error);
+    }
+
+    public static IntResult failure(String message) {
+        return new IntResult(new Error(message));
+    }
+
+    /**
+     * Converts a generic Result into its {@code int} specialisation.
+     * 
+     * @param result the Result to convert
+     * @return IntResult carrying the unboxed value or the same error, or a failure with code
+     *         {@code NO_VALUE} if the Result is successful but holds no data
+     */
+    public static IntResult from(Result<Integer> result) {
+        if (!result.isSuccess()) {
+            return new IntResult(result.getError() != null ? result.getError() : new Error(result.getMessage()));
+        }
+        if (result.getData() == null) {
+            return new IntResult(NO_VALUE);
+        }
+        if (result.hasDefaultMessage()) {
+            return new IntResult(result.getData(), null, true);
+        }
+        return new IntResult(result.getData(), result.getMessage(), false);
+    }
+
+    /**
+     * Returns the value of a successful result.
+     * 
+     * @return the value
+     * @throws NoSuchElementException if this result is a failure
+     */
+    public int getAsInt() {
+        if (!isSuccess()) {
+            throw new NoSuchElementException("No value present in failed IntResult");
+        }
+        return value;
+    }
+
+    public String getMessage() {
+        if (defaultMessage) {
+            return ResultConstantsProvider.getResultConstants().getSuccessMessage();
+        }
+        return message;
+    }
+
+    @Override
+    public Boolean shouldRollback() {
+        return !isSuccess();
+    }
+
+    /**
+     * Boxes this result into a generic Result, keeping the message and error.
+     * 
+     * @return equivalent Result
+     */
+    public Result<Integer> toResult() {
+        if (!isSuccess()) {
+            return Result.failure(getError());
+        }
+        return defaultMessage ? Result.success(value) : Result.success(value, message);
+    }
+
+    public IntResult map(IntUnaryOperator mapper) {
+        if (!isSuccess()) {
+            return this;
+        }
+        return success(mapper.applyAsInt(value));
+    }
+
+    public <R> Result<R> mapToObj(IntFunction<R> mapper) {
+        if (!isSuccess()) {
+            return Result.failure(getError());
+        }
+        return Result.success(mapper.apply(value));
+    }
+
+    public LongResult mapToLong(IntToLongFunction mapper) {
+        if (!isSuccess()) {
+            return LongResult.failure(getError());
+        }
+        return LongResult.success(mapper.applyAsLong(value));
+    }
+
+    public DoubleResult mapToDouble(IntToDoubleFunction mapper) {
+        if (!isSuccess()) {
+            return DoubleResult.failure(getError());
+        }
+        return DoubleResult.success(mapper.applyAsDouble(value));
+    }
+
+    public IntResult flatMap(IntFunction<IntResult> mapper) {
+        if (!isSuccess()) {
+            return this;
+        }
+        return mapper.apply(value);
+    }
+
+    public IntResult validate(IntPredicate predicate, String errorMessage) {
+        if (isSuccess() && !predicate.test(value)) {
+            return failure(new ValidationError(errorMessage));
+        }
+        return this;
+    }
+
+    public IntResult onSuccess(IntConsumer action) {
+        if (isSuccess()) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    public IntResult onFailure(Consumer<Error> action) {
+        if (!isSuccess()) {
+            action.accept(getError());
+        }
+        return this;
+    }
+
+    public IntResult orElse(IntResult alternative) {
+        return isSuccess() ? this : alternative;
+    }
+
+    public int orElse(int other) {
+        return isSuccess() ? value : other;
+    }
+
+    public int orElseGet(IntSupplier supplier) {
+        return isSuccess() ? value : supplier.getAsInt();
+    }
+}
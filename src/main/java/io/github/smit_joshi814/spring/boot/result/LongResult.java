@@ -0,0 +1,197 @@
+package io.github.smit_joshi814.spring.boot.result;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.ValidationError;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultConstantsProvider;
+import io.github.smit_joshi814.spring.boot.result.internal.TransactionalOperation;
+
+/**
+ * Result specialised for {@code long} values.
+ * 
+ * <p>Behaves like {@code Result<Long>} but keeps the value unboxed through the whole chain, which
+ * matters on hot numeric endpoints (counters, prices). Use {@link #toResult()} and
+ * {@link #from(Result)} to cross over to the generic {@link Result}.</p>
+ * 
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * LongResult total = LongResult.success(repository.count())
+ *     .validate(v -> v >= 0, "Total must not be negative")
+ *     .map(v -> v * 2);
+ * return ResponseUtils.asResponse(total);
+ * }</pre>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class LongResult extends ResultBase implements TransactionalOperation {
+    private final long value;
+    private final String message;
+    // true when the message is the configured success message, looked up in getMessage()
+    private final boolean defaultMessage;
+
+    private LongResult(long value, String message, boolean defaultMessage) {
+        super(true, null);
+        this.value = value;
+        this.message = message;
+        this.defaultMessage = defaultMessage;
+    }
+
+    private LongResult(Error error) {
+        super(false, error);
+        this.value = 0;
+        this.message = error.getMessage();
+        this.defaultMessage = false;
+    }
+
+    public static LongResult success(long value) {
+        return new LongResult(value, null, true);
+    }
+
+    public static LongResult success(long value, String message) {
+        return new LongResult(value, message, false);
+    }
+
+    public static LongResult failure(Error error) {
+        return new LongResult(error);
+    }
+
+    public static LongResult failure(String message) {
+        return new LongResult(new Error(message));
+    }
+
+    /**
+     * Converts a generic Result into its {@code long} specialisation.
+     * 
+     * @param result the Result to convert
+     * @return LongResult carrying the unboxed value or the same error, or a failure with code
+     *         {@code NO_VALUE} if the Result is successful but holds no data
+     */
+    public static LongResult from(Result<Long> result) {
+        if (!result.isSuccess()) {
+            return new LongResult(result.getError() != null ? result.getError() : new Error(result.getMessage()));
+        }
+        if (result.getData() == null) {
+            return new LongResult(NO_VALUE);
+        }
+        if (result.hasDefaultMessage()) {
+            return new LongResult(result.getData(), null, true);
+        }
+        return new LongResult(result.getData(), result.getMessage(), false);
+    }
+
+    /**
+     * Returns the value of a successful result.
+     * 
+     * @return the value
+     * @throws NoSuchElementException if this result is a failure
+     */
+    public long getAsLong() {
+        if (!isSuccess()) {
+            throw new NoSuchElementException("No value present in failed LongResult");
+        }
+        return value;
+    }
+
+    public String getMessage() {
+        if (defaultMessage) {
+            return ResultConstantsProvider.getResultConstants().getSuccessMessage();
+        }
+        return message;
+    }
+
+    @Override
+    public Boolean shouldRollback() {
+        return !isSuccess();
+    }
+
+    /**
+     * Boxes this result into a generic Result, keeping the message and error.
+     * 
+     * @return equivalent Result
+     */
+    public Result<Long> toResult() {
+        if (!isSuccess()) {
+            return Result.failure(getError());
+        }
+        return defaultMessage ? Result.success(value) : Result.success(value, message);
+    }
+
+    public LongResult map(LongUnaryOperator mapper) {
+        if (!isSuccess()) {
+            return this;
+        }
+        return success(mapper.applyAsLong(value));
+    }
+
+    public <R> Result<R> mapToObj(LongFunction<R> mapper) {
+        if (!isSuccess()) {
+            return Result.failure(getError());
+        }
+        return Result.success(mapper.apply(value));
+    }
+
+    public IntResult mapToInt(LongToIntFunction mapper) {
+        if (!isSuccess()) {
+            return IntResult.failure(getError());
+        }
+        return IntResult.success(mapper.applyAsInt(value));
+    }
+
+    public DoubleResult mapToDouble(LongToDoubleFunction mapper) {
+        if (!isSuccess()) {
+            return DoubleResult.failure(getError());
+        }
+        return DoubleResult.success(mapper.applyAsDouble(value));
+    }
+
+    public LongResult flatMap(LongFunction<LongResult> mapper) {
+        if (!isSuccess()) {
+            return this;
+        }
+        return mapper.apply(value);
+    }
+
+    public LongResult validate(LongPredicate predicate, String errorMessage) {
+        if (isSuccess() && !predicate.test(value)) {
+            return failure(new ValidationError(errorMessage));
+        }
+        return this;
+    }
+
+    public LongResult onSuccess(LongConsumer action) {
+        if (isSuccess()) {
+            action.accept(value);
+        }
+        return this;
+    }
+
+    public LongResult onFailure(Consumer<Error> action) {
+        if (!isSuccess()) {
+            action.accept(getError());
+        }
+        return this;
+    }
+
+    public LongResult orElse(LongResult alternative) {
+        return isSuccess() ? this : alternative;
+    }
+
+    public long orElse(long other) {
+        return isSuccess() ? value : other;
+    }
+
+    public long orElseGet(LongSupplier supplier) {
+        return isSuccess() ? value : supplier.getAsLong();
+    }
+}
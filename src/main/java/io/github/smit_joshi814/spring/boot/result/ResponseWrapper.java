@@ -1,6 +1,26 @@
 package io.github.smit_joshi814.spring.boot.result;
 
-public record ResponseWrapper<T>(boolean success, String message, T data) {
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.ResponseWrapperDeserializer;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.ResponseWrapperSerializer;
+
+/**
+ * Response envelope of the starter.
+ * 
+ * <p>Failures carry their {@link Error}, written as a typed discriminator next to the message so
+ * clients can decode the body back into a {@link Result} with the same error subclass. The
+ * serializers are bound on the type, so any {@code ObjectMapper} reads and writes the envelope.</p>
+ */
+@JsonSerialize(using = ResponseWrapperSerializer.class)
+@JsonDeserialize(using = ResponseWrapperDeserializer.class)
+public record ResponseWrapper<T>(boolean success, String message, T data, Error error) {
+
+	public ResponseWrapper(boolean success, String message, T data) {
+		this(success, message, data, null);
+	}
 
 	public static <T> ResponseWrapper<T> success(T data, String message) {
 		return new ResponseWrapper<>(true, message, data);
@@ -9,4 +29,8 @@ public record ResponseWrapper<T>(boolean success, String message, T data) {
 	public static <T> ResponseWrapper<T> failure(String message) {
 		return new ResponseWrapper<>(false, message, null);
 	}
+
+	public static <T> ResponseWrapper<T> failure(Error error) {
+		return new ResponseWrapper<>(false, error != null ? error.getMessage() : null, null, error);
+	}
 }
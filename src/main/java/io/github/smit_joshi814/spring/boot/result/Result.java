@@ -3,17 +3,37 @@ package io.github.smit_joshi814.spring.boot.result;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import io.github.smit_joshi814.spring.boot.result.domain.errors.CompositeError;
 import io.github.smit_joshi814.spring.boot.result.domain.errors.EntityAlreadyExistsError;
 import io.github.smit_joshi814.spring.boot.result.domain.errors.EntityNotFoundError;
 import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.ExceptionError;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.TimeoutError;
 import io.github.smit_joshi814.spring.boot.result.domain.errors.UnauthorizedError;
 import io.github.smit_joshi814.spring.boot.result.domain.errors.ValidationError;
 import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultConstantsProvider;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultExecutorProvider;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.ResultDeserializer;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.ResultSerializer;
+import io.github.smit_joshi814.spring.boot.result.internal.InterruptibleFuture;
+import io.github.smit_joshi814.spring.boot.result.internal.ParallelCombiner;
 import io.github.smit_joshi814.spring.boot.result.internal.TransactionalOperation;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 /**
  * Main Result class implementing the Result pattern for elegant error handling.
@@ -21,6 +41,9 @@ import java.util.ArrayList;
  * <p>This class provides a type-safe way to handle operations that can either succeed or fail,
  * eliminating the need for exception-based error handling in many scenarios.</p>
  * 
+ * <p>Results are immutable: all state is assigned in the constructor through final fields, so an
+ * instance can be cached or handed to another thread without synchronization.</p>
+ * 
  * <p>Example usage:</p>
  * <pre>{@code
  * Result<User> result = Result.success(user);
@@ -36,41 +59,99 @@ import java.util.ArrayList;
  * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
  * @since 0.0.1
  */
+@JsonSerialize(using = ResultSerializer.class)
+@JsonDeserialize(using = ResultDeserializer.class)
 public final class Result<T> extends ResultBase implements TransactionalOperation {
-    private T data;
-    private String message;
+    private static final Result<?> OK = new Result<Object>(null);
+    private static final Result<?> EMPTY = new Result<>(true);
+    private static final Result<?> FAILURE = new Result<>(false);
+    private static final Result<?> TIMED_OUT = new Result<>(false, TimeoutError.of("TIMEOUT", "Operation timed out"));
+
+    private final T data;
+    private final String message;
+    // true when the message is the configured success message, looked up in getMessage()
+    private final boolean defaultMessage;
 
     public Result(T data) {
         super(true, null);
         this.data = data;
-        this.message = ResultConstantsProvider.getResultConstants().getSuccessMessage();
+        this.message = null;
+        this.defaultMessage = true;
     }
 
     public Result(T data, String message) {
         super(true, null);
         this.data = data;
         this.message = message;
+        this.defaultMessage = false;
     }
 
     public Result(boolean success) {
         super(success, null);
         this.data = null;
+        this.message = null;
+        this.defaultMessage = false;
     }
 
     public Result(boolean success, Error error) {
         super(success, error);
         this.message = error.getMessage();
         this.data = null;
+        this.defaultMessage = false;
     }
 
     public T getData() {
         return data;
     }
 
+    // true when getMessage() resolves the configured success message, so conversions can keep it lazy
+    boolean hasDefaultMessage() {
+        return defaultMessage;
+    }
+
+    /**
+     * Returns the message of this Result.
+     * 
+     * <p>For successes created without an explicit message the configured success message is
+     * looked up here rather than at construction, so Results that never reach the HTTP boundary
+     * do not pay for the {@link ResultConstantsProvider} call.</p>
+     * 
+     * @return the result message, may be null
+     */
     public String getMessage() {
+        if (defaultMessage) {
+            return ResultConstantsProvider.getResultConstants().getSuccessMessage();
+        }
         return message;
     }
 
+    /**
+     * Returns the shared successful Result without data.
+     * 
+     * <p>The instance is cached, so void-returning operations do not allocate. Its message is the
+     * configured success message, exactly like {@code Result.success(null)}.</p>
+     * 
+     * @param <T> the type of data
+     * @return shared successful Result
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<T> ok() {
+        return (Result<T>) OK;
+    }
+
+    /**
+     * Returns the shared successful Result without data and without message.
+     * 
+     * <p>Equivalent to {@code new Result<>(true)}, but cached.</p>
+     * 
+     * @param <T> the type of data
+     * @return shared empty successful Result
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<T> empty() {
+        return (Result<T>) EMPTY;
+    }
+
     /**
      * Creates a successful Result with data.
      * 
@@ -79,6 +160,9 @@ public final class Result<T> extends ResultBase implements TransactionalOperatio
      * @return successful Result
      */
     public static <T> Result<T> success(T data) {
+        if (data == null) {
+            return ok();
+        }
         return new Result<T>(data);
     }
 
@@ -94,8 +178,9 @@ public final class Result<T> extends ResultBase implements TransactionalOperatio
         return new Result<T>(false, new Error(message));
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> Result<T> failure(Boolean isError) {
-        return new Result<T>(false);
+        return (Result<T>) FAILURE;
     }
 
     public static <T> Result<T> unauthorizedError(String message) {
@@ -137,7 +222,7 @@ public final class Result<T> extends ResultBase implements TransactionalOperatio
         if (isSuccess() && data != null) {
             return Result.success(mapper.apply(data));
         }
-        return new Result<>(isSuccess(), getError());
+        return propagate();
     }
 
     // Validation Chain
@@ -156,20 +241,332 @@ public final class Result<T> extends ResultBase implements TransactionalOperatio
     }
 
     // Async Support
+    /**
+     * Runs the supplier asynchronously on the executor from {@link ResultExecutorProvider}.
+     * 
+     * <p>By default this is a virtual thread per task, so suppliers may block on JDBC or HTTP
+     * calls without starving a shared pool. Under Spring Boot the executor is the
+     * {@code resultAsyncExecutor} bean, configurable through the {@code result.async.*}
+     * properties.</p>
+     * 
+     * <p>Cancelling the returned future interrupts the supplier if it is running, and keeps it
+     * from starting if it is still queued.</p>
+     * 
+     * @param <T> the type of data
+     * @param supplier the operation producing the Result
+     * @return future completed with the supplied Result
+     */
     public static <T> CompletableFuture<Result<T>> async(java.util.function.Supplier<Result<T>> supplier) {
-        return CompletableFuture.supplyAsync(supplier);
+        return async(supplier, ResultExecutorProvider.getExecutor());
+    }
+
+    public static <T> CompletableFuture<Result<T>> async(java.util.function.Supplier<Result<T>> supplier,
+            Executor executor) {
+        return InterruptibleFuture.supply(supplier, executor);
+    }
+
+    /**
+     * Calls the callable and wraps its return value in a successful Result.
+     * 
+     * <p>Any exception it throws is turned into a failure carrying an {@link ExceptionError}, so
+     * callers get a Result instead of having to catch.</p>
+     * 
+     * @param <T> the type of data
+     * @param callable the operation to run
+     * @return successful Result with the returned value, or failure with the exception details
+     */
+    public static <T> Result<T> of(Callable<T> callable) {
+        try {
+            return success(callable.call());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return failure(new ExceptionError(e));
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #of(Callable)}.
+     * 
+     * <p>Unlike {@link #async(java.util.function.Supplier)}, an exception never completes the
+     * future exceptionally: it is trapped inside the task, so no {@code CompletionException} is
+     * created and callers do not need {@code exceptionally(...)}.</p>
+     * 
+     * @param <T> the type of data
+     * @param callable the operation to run
+     * @return future completed with the Result of the callable
+     */
+    public static <T> CompletableFuture<Result<T>> tryAsync(Callable<T> callable) {
+        return tryAsync(callable, ResultExecutorProvider.getExecutor());
+    }
+
+    public static <T> CompletableFuture<Result<T>> tryAsync(Callable<T> callable, Executor executor) {
+        return async(() -> of(callable), executor);
+    }
+
+    /**
+     * Runs the supplier asynchronously and completes with a {@link TimeoutError} failure if it has
+     * not produced a Result within the timeout.
+     * 
+     * <p>The timeout failure is a shared instance, so hitting the timeout does not allocate.</p>
+     * 
+     * @param <T> the type of data
+     * @param supplier the operation producing the Result
+     * @param timeout maximum time to wait for the supplier
+     * @return future completed with the supplied Result or a timeout failure
+     */
+    public static <T> CompletableFuture<Result<T>> async(java.util.function.Supplier<Result<T>> supplier,
+            Duration timeout) {
+        return async(supplier, timeout, ResultExecutorProvider.getExecutor());
+    }
+
+    public static <T> CompletableFuture<Result<T>> async(java.util.function.Supplier<Result<T>> supplier,
+            Duration timeout, Executor executor) {
+        return withTimeout(async(supplier, executor), timeout);
+    }
+
+    /**
+     * Runs the supplier asynchronously unless the deadline has already passed, and completes with
+     * a {@link TimeoutError} failure once the deadline is reached.
+     * 
+     * @param <T> the type of data
+     * @param supplier the operation producing the Result
+     * @param deadline instant after which the Result is no longer awaited
+     * @return future completed with the supplied Result or a timeout failure
+     */
+    public static <T> CompletableFuture<Result<T>> asyncUntil(java.util.function.Supplier<Result<T>> supplier,
+            Instant deadline) {
+        return asyncUntil(supplier, deadline, ResultExecutorProvider.getExecutor());
+    }
+
+    public static <T> CompletableFuture<Result<T>> asyncUntil(java.util.function.Supplier<Result<T>> supplier,
+            Instant deadline, Executor executor) {
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        if (remaining.isNegative() || remaining.isZero()) {
+            return CompletableFuture.completedFuture(timedOut());
+        }
+        return async(supplier, remaining, executor);
+    }
+
+    /**
+     * Completes the given future with a {@link TimeoutError} failure if it is still pending after
+     * the timeout. The future itself is completed, so all its dependents see the failure. For
+     * futures created by {@code async}, the timed-out supplier is then interrupted, or never
+     * started if it is still queued.
+     * 
+     * @param <T> the type of data
+     * @param future the pending Result
+     * @param timeout maximum time to wait
+     * @return the same future
+     */
+    public static <T> CompletableFuture<Result<T>> withTimeout(CompletableFuture<Result<T>> future,
+            Duration timeout) {
+        if (future instanceof InterruptibleFuture<Result<T>> interruptible) {
+            return interruptible.interruptOnTimeout(timedOut(), timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return future.completeOnTimeout(timedOut(), timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Result<T> timedOut() {
+        return (Result<T>) TIMED_OUT;
+    }
+
+    /**
+     * Waits for all asynchronous Results and combines them like {@link #combine(List)}.
+     * 
+     * <p>Completes as soon as the outcome is known: on the first failed Result (or exceptional
+     * completion) the returned future completes with it and every sibling still pending is
+     * cancelled. Cancelling the returned future cancels all of them. Futures created by
+     * {@link #async(java.util.function.Supplier)} and {@link #tryAsync(Callable)} stop their task
+     * when cancelled, so no work is wasted on them; other futures only complete early, and
+     * whatever computes them keeps running.</p>
+     * 
+     * @param <T> the type of data
+     * @param futures the pending Results
+     * @return future of all data in list order, or of the first failure
+     */
+    public static <T> CompletableFuture<Result<List<T>>> allOf(List<CompletableFuture<Result<T>>> futures) {
+        if (futures.isEmpty()) {
+            return CompletableFuture.completedFuture(Result.success(List.of()));
+        }
+        CompletableFuture<Result<List<T>>> combined = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(futures.size());
+        for (CompletableFuture<Result<T>> future : futures) {
+            future.whenComplete((result, failure) -> {
+                if (failure != null) {
+                    if (combined.completeExceptionally(failure)) {
+                        cancelAll(futures);
+                    }
+                } else if (!result.isSuccess()) {
+                    if (combined.complete(result.propagate())) {
+                        cancelAll(futures);
+                    }
+                } else if (remaining.decrementAndGet() == 0) {
+                    combined.complete(combine(futures.stream().map(CompletableFuture::join).toList()));
+                }
+            });
+        }
+        combined.whenComplete((result, failure) -> {
+            if (combined.isCancelled()) {
+                cancelAll(futures);
+            }
+        });
+        return combined;
+    }
+
+    @SafeVarargs
+    public static <T> CompletableFuture<Result<List<T>>> allOf(CompletableFuture<Result<T>>... futures) {
+        return allOf(List.of(futures));
+    }
+
+    /**
+     * Completes with whichever asynchronous Result completes first, successful or not, and
+     * cancels the others, see {@link #allOf(List)} for what cancelling stops.
+     * 
+     * @param <T> the type of data
+     * @param futures the pending Results, must not be empty
+     * @return future of the first completed Result
+     */
+    public static <T> CompletableFuture<Result<T>> anyOf(List<CompletableFuture<Result<T>>> futures) {
+        if (futures.isEmpty()) {
+            throw new IllegalArgumentException("At least one future is required");
+        }
+        CompletableFuture<Result<T>> first = new CompletableFuture<>();
+        for (CompletableFuture<Result<T>> future : futures) {
+            future.whenComplete((result, failure) -> {
+                boolean completed = failure != null ? first.completeExceptionally(failure) : first.complete(result);
+                if (completed) {
+                    cancelAll(futures);
+                }
+            });
+        }
+        first.whenComplete((result, failure) -> {
+            if (first.isCancelled()) {
+                cancelAll(futures);
+            }
+        });
+        return first;
+    }
+
+    /**
+     * Completes with the first successful asynchronous Result and cancels the others, see
+     * {@link #allOf(List)} for what cancelling stops.
+     * 
+     * <p>Failed and exceptionally completed futures are skipped. If none succeeds, the returned
+     * failure carries a {@link CompositeError} with every error in list order.</p>
+     * 
+     * @param <T> the type of data
+     * @param futures the pending Results, must not be empty
+     * @return future of the first successful Result, or of all failures
+     */
+    public static <T> CompletableFuture<Result<T>> firstSuccess(List<CompletableFuture<Result<T>>> futures) {
+        if (futures.isEmpty()) {
+            throw new IllegalArgumentException("At least one future is required");
+        }
+        CompletableFuture<Result<T>> first = new CompletableFuture<>();
+        AtomicReferenceArray<Error> errors = new AtomicReferenceArray<>(futures.size());
+        AtomicInteger remaining = new AtomicInteger(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            int index = i;
+            futures.get(i).whenComplete((result, failure) -> {
+                if (failure == null && result.isSuccess()) {
+                    if (first.complete(result)) {
+                        cancelAll(futures);
+                    }
+                    return;
+                }
+                errors.set(index, failure != null ? new Error(failure.getMessage())
+                        : result.getError() != null ? result.getError() : new Error(result.getMessage()));
+                if (remaining.decrementAndGet() == 0) {
+                    List<Error> all = new ArrayList<>(errors.length());
+                    for (int j = 0; j < errors.length(); j++) {
+                        all.add(errors.get(j));
+                    }
+                    first.complete(Result.failure(new CompositeError(all)));
+                }
+            });
+        }
+        first.whenComplete((result, failure) -> {
+            if (first.isCancelled()) {
+                cancelAll(futures);
+            }
+        });
+        return first;
+    }
+
+    private static void cancelAll(List<? extends CompletableFuture<?>> futures) {
+        for (CompletableFuture<?> future : futures) {
+            future.cancel(true);
+        }
     }
 
     // Bulk Operations
+    @SuppressWarnings("unchecked")
     public static <T> Result<List<T>> combine(List<Result<T>> results) {
-        List<T> successData = new ArrayList<>();
+        List<T> successData = new ArrayList<>(results.size());
         for (Result<T> result : results) {
             if (!result.isSuccess()) {
-                return new Result<>(false, result.getError());
+                return (Result<List<T>>) (Result<?>) result;
             }
             successData.add(result.getData());
         }
-        return Result.success(successData);
+        return Result.success(Collections.unmodifiableList(successData));
+    }
+
+    /**
+     * Combines a large list of Results on the common fork/join pool.
+     * 
+     * <p>Same outcome as {@link #combine(List)}: all data on success, otherwise the first failed
+     * Result in list order. Lists of up to {@link ParallelCombiner#THRESHOLD} elements are
+     * combined sequentially, since splitting them costs more than it saves.</p>
+     * 
+     * @param <T> the type of data
+     * @param results the Results to combine
+     * @return successful Result with all data, or the first failure
+     */
+    public static <T> Result<List<T>> combineParallel(List<Result<T>> results) {
+        return combineParallel(results, ForkJoinPool.commonPool());
+    }
+
+    public static <T> Result<List<T>> combineParallel(List<Result<T>> results, ForkJoinPool pool) {
+        if (results.size() <= ParallelCombiner.THRESHOLD) {
+            return combine(results);
+        }
+        return ParallelCombiner.combine(results, pool);
+    }
+
+    /**
+     * Combines Results without stopping at the first failure.
+     * 
+     * <p>If any Result failed, the returned failure carries a {@link CompositeError} holding every
+     * error in list order.</p>
+     * 
+     * @param <T> the type of data
+     * @param results the Results to combine
+     * @return successful Result with all data, or a failure with all errors
+     */
+    public static <T> Result<List<T>> combineAccumulatingErrors(List<Result<T>> results) {
+        List<T> successData = new ArrayList<>(results.size());
+        List<Error> errors = null;
+        for (Result<T> result : results) {
+            if (result.isSuccess()) {
+                if (errors == null) {
+                    successData.add(result.getData());
+                }
+                continue;
+            }
+            if (errors == null) {
+                errors = new ArrayList<>();
+                successData = null;
+            }
+            errors.add(result.getError() != null ? result.getError() : new Error(result.getMessage()));
+        }
+        if (errors != null) {
+            return Result.failure(new CompositeError(errors));
+        }
+        return Result.success(Collections.unmodifiableList(successData));
     }
 
     @SafeVarargs
@@ -196,7 +593,18 @@ public final class Result<T> extends ResultBase implements TransactionalOperatio
         if (isSuccess() && data != null) {
             return mapper.apply(data);
         }
-        return new Result<>(isSuccess(), getError());
+        return propagate();
+    }
+
+    /**
+     * Re-types this Result for a step that was skipped.
+     * 
+     * <p>Only called when there is no data to transform, so the instance holds nothing of type
+     * {@code T} and can be returned as-is instead of allocating a copy at every step of a chain.</p>
+     */
+    @SuppressWarnings("unchecked")
+    private <R> Result<R> propagate() {
+        return (Result<R>) this;
     }
 
     public Result<T> orElse(Result<T> alternative) {
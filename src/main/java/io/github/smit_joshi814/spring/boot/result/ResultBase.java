@@ -2,9 +2,12 @@ package io.github.smit_joshi814.spring.boot.result;
 
 import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
 
-sealed class ResultBase permits Result {
-    private boolean success;
-    private Error error;
+sealed class ResultBase permits Result, IntResult, LongResult, DoubleResult {
+    // Error of a primitive Result converted from a successful Result without data
+    static final Error NO_VALUE = Error.of("NO_VALUE", "Result holds no value");
+
+    private final boolean success;
+    private final Error error;
 
     public ResultBase(boolean success, Error error) {
         this.success = success;
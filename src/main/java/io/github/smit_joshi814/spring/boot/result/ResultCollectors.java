@@ -0,0 +1,214 @@
+package io.github.smit_joshi814.spring.boot.result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.CompositeError;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+
+/**
+ * {@link Collector} implementations folding a {@code Stream<Result<T>>} in a single pass.
+ * 
+ * <p>All collectors provide combiners that keep encounter order, so they give the same outcome on
+ * sequential and parallel streams. Once a failure has been seen, successful data is no longer
+ * retained, which keeps memory bounded for streams that fail early.</p>
+ * 
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Result<List<User>> users = rows.parallelStream()
+ *     .map(userService::importRow)
+ *     .collect(ResultCollectors.toResultAccumulatingErrors());
+ * }</pre>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class ResultCollectors {
+
+    private ResultCollectors() {
+    }
+
+    /**
+     * Collects into a Result holding all data, or the first failure in encounter order.
+     * Stream counterpart of {@link Result#combine(List)}.
+     * 
+     * @param <T> the type of data
+     * @return collector producing the combined Result
+     */
+    public static <T> Collector<Result<T>, ?, Result<List<T>>> toResult() {
+        return Collector.of(FirstFailure<T>::new, FirstFailure::add, FirstFailure::merge, FirstFailure::finish);
+    }
+
+    /**
+     * Collects into a Result holding all data, or a {@link CompositeError} with every failure in
+     * encounter order. Stream counterpart of {@link Result#combineAccumulatingErrors(List)}.
+     * 
+     * @param <T> the type of data
+     * @return collector producing the combined Result
+     */
+    public static <T> Collector<Result<T>, ?, Result<List<T>>> toResultAccumulatingErrors() {
+        return Collector.of(AllFailures<T>::new, AllFailures::add, AllFailures::merge, AllFailures::finish);
+    }
+
+    /**
+     * Splits Results into successes ({@code true}) and failures ({@code false}).
+     * 
+     * @param <T> the type of data
+     * @return collector producing the partition
+     */
+    public static <T> Collector<Result<T>, ?, Map<Boolean, List<Result<T>>>> partitioningBySuccess() {
+        return Collectors.partitioningBy(Result::isSuccess);
+    }
+
+    /**
+     * Collects successful data into a map keyed by {@code keyMapper}, or returns the first failure
+     * in encounter order.
+     * 
+     * @param <T> the type of data
+     * @param <K> the type of keys
+     * @param keyMapper function extracting the key from the data
+     * @return collector producing the keyed Result
+     * @throws IllegalStateException on duplicate keys, like {@link Collectors#toMap(Function, Function)}
+     */
+    public static <T, K> Collector<Result<T>, ?, Result<Map<K, T>>> toResultMap(
+            Function<? super T, ? extends K> keyMapper) {
+        return Collector.of(() -> new FirstFailureMap<T, K>(keyMapper), FirstFailureMap::add, FirstFailureMap::merge,
+                FirstFailureMap::finish);
+    }
+
+    private static Error errorOf(Result<?> result) {
+        return result.getError() != null ? result.getError() : new Error(result.getMessage());
+    }
+
+    private static final class FirstFailure<T> {
+        private List<T> data = new ArrayList<>();
+        private Result<T> failure;
+
+        void add(Result<T> result) {
+            if (failure != null) {
+                return;
+            }
+            if (!result.isSuccess()) {
+                failure = result;
+                data = null;
+                return;
+            }
+            data.add(result.getData());
+        }
+
+        FirstFailure<T> merge(FirstFailure<T> other) {
+            if (failure != null) {
+                return this;
+            }
+            if (other.failure != null) {
+                return other;
+            }
+            data.addAll(other.data);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        Result<List<T>> finish() {
+            if (failure != null) {
+                return (Result<List<T>>) (Result<?>) failure;
+            }
+            return Result.success(Collections.unmodifiableList(data));
+        }
+    }
+
+    private static final class AllFailures<T> {
+        private List<T> data = new ArrayList<>();
+        private List<Error> errors;
+
+        void add(Result<T> result) {
+            if (result.isSuccess()) {
+                if (errors == null) {
+                    data.add(result.getData());
+                }
+                return;
+            }
+            if (errors == null) {
+                errors = new ArrayList<>();
+                data = null;
+            }
+            errors.add(errorOf(result));
+        }
+
+        AllFailures<T> merge(AllFailures<T> other) {
+            if (errors == null && other.errors == null) {
+                data.addAll(other.data);
+                return this;
+            }
+            if (errors == null) {
+                return other;
+            }
+            if (other.errors != null) {
+                errors.addAll(other.errors);
+            }
+            return this;
+        }
+
+        Result<List<T>> finish() {
+            if (errors != null) {
+                return Result.failure(new CompositeError(errors));
+            }
+            return Result.success(Collections.unmodifiableList(data));
+        }
+    }
+
+    private static final class FirstFailureMap<T, K> {
+        private final Function<? super T, ? extends K> keyMapper;
+        private Map<K, T> data = new HashMap<>();
+        private Result<T> failure;
+
+        FirstFailureMap(Function<? super T, ? extends K> keyMapper) {
+            this.keyMapper = keyMapper;
+        }
+
+        void add(Result<T> result) {
+            if (failure != null) {
+                return;
+            }
+            if (!result.isSuccess()) {
+                failure = result;
+                data = null;
+                return;
+            }
+            put(keyMapper.apply(result.getData()), result.getData());
+        }
+
+        FirstFailureMap<T, K> merge(FirstFailureMap<T, K> other) {
+            if (failure != null) {
+                return this;
+            }
+            if (other.failure != null) {
+                return other;
+            }
+            other.data.forEach(this::put);
+            return this;
+        }
+
+        private void put(K key, T value) {
+            T previous = data.putIfAbsent(key, value);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate key " + key + " (attempted merging values "
+                        + previous + " and " + value + ")");
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Result<Map<K, T>> finish() {
+            if (failure != null) {
+                return (Result<Map<K, T>>) (Result<?>) failure;
+            }
+            return Result.success(Collections.unmodifiableMap(data));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.smit_joshi814.spring.boot.result.api;
+
+import java.net.URI;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+
+/**
+ * Renders failed Results as RFC 9457 (formerly RFC 7807) {@link ProblemDetail}s.
+ * 
+ * <p>The {@code type} URI and {@code title} of each {@link Error} class are derived once from its
+ * name and cached per class: {@code EntityNotFoundError} becomes {@code <typeBase>entity-not-found}
+ * titled {@code "Entity Not Found"}. Per response only the status, the message as {@code detail}
+ * and, when present, the error {@code code} property are set.</p>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class ErrorProblemMapper {
+    public static final String DEFAULT_TYPE_BASE = "urn:problem-type:";
+
+    private final String typeBase;
+    private final ClassValue<ProblemType> problemTypes = new ClassValue<>() {
+        @Override
+        protected ProblemType computeValue(Class<?> type) {
+            String[] words = words(type);
+            return new ProblemType(URI.create(typeBase + String.join("-", words).toLowerCase()),
+                    String.join(" ", words));
+        }
+    };
+
+    /**
+     * Creates a mapper whose type URIs start with the given base.
+     * 
+     * @param typeBase prefix of the type URIs, such as {@code "https://errors.example.com/"}
+     */
+    public ErrorProblemMapper(String typeBase) {
+        this.typeBase = typeBase;
+    }
+
+    /**
+     * Builds the problem detail of a failure carrying the given error, with the status of
+     * {@link ResponseUtils#statusOf(Error)}.
+     * 
+     * @param error the error, may be null
+     * @return a new problem detail
+     */
+    public ProblemDetail toProblemDetail(Error error) {
+        HttpStatus status = ResponseUtils.statusOf(error);
+        ProblemType problemType = problemTypes.get(error != null ? error.getClass() : Error.class);
+        ProblemDetail problem = ProblemDetail.forStatus(status);
+        problem.setType(problemType.type());
+        problem.setTitle(problemType.title());
+        if (error != null) {
+            problem.setDetail(error.getMessage());
+            if (error.getCode() != null) {
+                problem.setProperty("code", error.getCode());
+            }
+        }
+        return problem;
+    }
+
+    public URI typeOf(Class<? extends Error> errorType) {
+        return problemTypes.get(errorType).type();
+    }
+
+    public String titleOf(Class<? extends Error> errorType) {
+        return problemTypes.get(errorType).title();
+    }
+
+    // "EntityNotFoundError" -> [Entity, Not, Found]; the base Error class keeps its name
+    private static String[] words(Class<?> type) {
+        String name = type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+        name = name.substring(name.lastIndexOf('.') + 1);
+        if (name.endsWith("Error") && name.length() > "Error".length()) {
+            name = name.substring(0, name.length() - "Error".length());
+        }
+        return name.split("(?<=[a-z0-9])(?=[A-Z])|(?<=[A-Z])(?=[A-Z][a-z])");
+    }
+
+    private record ProblemType(URI type, String title) {
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.smit_joshi814.spring.boot.result.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.EntityAlreadyExistsError;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.EntityNotFoundError;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.TimeoutError;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.UnauthorizedError;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.ValidationError;
+
+/**
+ * Maps {@link Error} classes to the HTTP status of failed responses.
+ * 
+ * <p>An error class uses the status registered for it or, failing that, for its closest
+ * registered superclass; {@link Error} itself maps to 500. The resolved status is cached per
+ * class, so a lookup costs the same whatever the number of registered types.</p>
+ * 
+ * <p>The mapper used by {@link ResponseUtils#statusOf(Error)} is auto-configured from
+ * {@link ErrorStatusMapperCustomizer} beans and {@code result.web.error-status} properties.</p>
+ * 
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * @Bean
+ * ErrorStatusMapperCustomizer rateLimitStatus() {
+ *     return builder -> builder.map(RateLimitedError.class, HttpStatus.TOO_MANY_REQUESTS);
+ * }
+ * }</pre>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class ErrorStatusMapper {
+    private final Map<Class<? extends Error>, HttpStatus> statuses;
+    private final ClassValue<HttpStatus> resolved = new ClassValue<>() {
+        @Override
+        protected HttpStatus computeValue(Class<?> type) {
+            for (Class<?> candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+                HttpStatus status = statuses.get(candidate);
+                if (status != null) {
+                    return status;
+                }
+            }
+            return HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+    };
+
+    private ErrorStatusMapper(Map<Class<? extends Error>, HttpStatus> statuses) {
+        this.statuses = Map.copyOf(statuses);
+    }
+
+    /**
+     * Returns a builder holding the default mappings: 401 for {@link UnauthorizedError}, 404 for
+     * {@link EntityNotFoundError}, 409 for {@link EntityAlreadyExistsError}, 400 for
+     * {@link ValidationError}, 504 for {@link TimeoutError} and 500 for any other error.
+     * 
+     * @return builder with the default mappings
+     */
+    public static Builder builder() {
+        return new Builder()
+                .map(Error.class, HttpStatus.INTERNAL_SERVER_ERROR)
+                .map(UnauthorizedError.class, HttpStatus.UNAUTHORIZED)
+                .map(EntityNotFoundError.class, HttpStatus.NOT_FOUND)
+                .map(EntityAlreadyExistsError.class, HttpStatus.CONFLICT)
+                .map(ValidationError.class, HttpStatus.BAD_REQUEST)
+                .map(TimeoutError.class, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    /**
+     * Returns the HTTP status of a failed response carrying the given error.
+     * 
+     * @param error the error, may be null
+     * @return the mapped status, 500 for a null error
+     */
+    public HttpStatus statusOf(Error error) {
+        return error != null ? resolved.get(error.getClass()) : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    public HttpStatus statusOf(Class<? extends Error> errorType) {
+        return resolved.get(errorType);
+    }
+
+    public static final class Builder {
+        private final Map<Class<? extends Error>, HttpStatus> statuses = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Maps an error class, and its subclasses without a mapping of their own, to a status.
+         * 
+         * @param errorType the error class
+         * @param status the HTTP status of its failed responses
+         * @return this builder
+         */
+        public Builder map(Class<? extends Error> errorType, HttpStatus status) {
+            if (errorType == null || status == null) {
+                throw new IllegalArgumentException("Error type and status cannot be null");
+            }
+            statuses.put(errorType, status);
+            return this;
+        }
+
+        public ErrorStatusMapper build() {
+            return new ErrorStatusMapper(statuses);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.smit_joshi814.spring.boot.result.api;
+
+/**
+ * Callback customizing the auto-configured {@link ErrorStatusMapper}. Every bean of this type is
+ * applied to the builder, after the defaults and before the {@code result.web.error-status}
+ * properties.
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+@FunctionalInterface
+public interface ErrorStatusMapperCustomizer {
+
+    void customize(ErrorStatusMapper.Builder builder);
+}
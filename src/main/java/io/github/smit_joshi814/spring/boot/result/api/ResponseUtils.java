@@ -1,15 +1,24 @@
 package io.github.smit_joshi814.spring.boot.result.api;
 
+import io.github.smit_joshi814.spring.boot.result.DoubleResult;
+import io.github.smit_joshi814.spring.boot.result.IntResult;
+import io.github.smit_joshi814.spring.boot.result.LongResult;
 import io.github.smit_joshi814.spring.boot.result.ResponseWrapper;
 import io.github.smit_joshi814.spring.boot.result.Result;
-import io.github.smit_joshi814.spring.boot.result.domain.errors.EntityAlreadyExistsError;
-import io.github.smit_joshi814.spring.boot.result.domain.errors.EntityNotFoundError;
 import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
-import io.github.smit_joshi814.spring.boot.result.domain.errors.UnauthorizedError;
-import io.github.smit_joshi814.spring.boot.result.domain.errors.ValidationError;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ErrorProblemMapperProvider;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ErrorStatusMapperProvider;
 import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultConstantsProvider;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultOutcomeRecorderProvider;
+
+import java.lang.reflect.Method;
+
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
 
 /**
  * Utility class for converting Result objects to HTTP ResponseEntity objects.
@@ -29,6 +38,10 @@ import org.springframework.http.ResponseEntity;
  */
 public final class ResponseUtils {
 
+    // HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, named here so Spring MVC stays optional
+    private static final String BEST_MATCHING_HANDLER_ATTRIBUTE =
+            "org.springframework.web.servlet.HandlerMapping.bestMatchingHandler";
+
     public static <T> ResponseEntity<ResponseWrapper<T>> success(T data, String message, HttpStatus status) {
         return new ResponseEntity<>(ResponseWrapper.success(data, message), status);
     }
@@ -66,33 +79,121 @@ public final class ResponseUtils {
      *   <li>ValidationError → 400 BAD_REQUEST</li>
      *   <li>UnauthorizedError → 401 UNAUTHORIZED</li>
      *   <li>EntityAlreadyExistsError → 409 CONFLICT</li>
+     *   <li>TimeoutError → 504 GATEWAY_TIMEOUT</li>
      *   <li>Other errors → 500 INTERNAL_SERVER_ERROR</li>
      *   <li>Success → 200 OK</li>
      * </ul>
      * 
+     * <p>The mapping can be extended with further error types, see {@link ErrorStatusMapper}.</p>
+     * 
      * @param <T> the type of data
      * @param result the Result to convert
      * @return ResponseEntity with appropriate status code and response wrapper
      */
     public static <T> ResponseEntity<ResponseWrapper<T>> asResponse(Result<T> result) {
+        ResultOutcomeRecorderProvider.getRecorder().record(currentHandler(), result.isSuccess(), result.getError());
         if (!result.isSuccess())
             return asError(result.getError());
 
         return ResponseEntity.ok(ResponseWrapper.success(result.getData(), result.getMessage()));
     }
 
+    /**
+     * Converts an IntResult to an HTTP ResponseEntity using the same status mapping as
+     * {@link #asResponse(Result)}.
+     * 
+     * <p>The value stays unboxed through the whole IntResult chain and is boxed once here, when
+     * it is placed in the response body.</p>
+     * 
+     * @param result the IntResult to convert
+     * @return ResponseEntity with appropriate status code and response wrapper
+     */
+    public static ResponseEntity<ResponseWrapper<Integer>> asResponse(IntResult result) {
+        ResultOutcomeRecorderProvider.getRecorder().record(currentHandler(), result.isSuccess(), result.getError());
+        if (!result.isSuccess())
+            return asError(result.getError());
+
+        return ResponseEntity.ok(ResponseWrapper.success(result.getAsInt(), result.getMessage()));
+    }
+
+    /**
+     * Converts a LongResult to an HTTP ResponseEntity, see {@link #asResponse(IntResult)}.
+     * 
+     * @param result the LongResult to convert
+     * @return ResponseEntity with appropriate status code and response wrapper
+     */
+    public static ResponseEntity<ResponseWrapper<Long>> asResponse(LongResult result) {
+        ResultOutcomeRecorderProvider.getRecorder().record(currentHandler(), result.isSuccess(), result.getError());
+        if (!result.isSuccess())
+            return asError(result.getError());
+
+        return ResponseEntity.ok(ResponseWrapper.success(result.getAsLong(), result.getMessage()));
+    }
+
+    /**
+     * Converts a DoubleResult to an HTTP ResponseEntity, see {@link #asResponse(IntResult)}.
+     * 
+     * @param result the DoubleResult to convert
+     * @return ResponseEntity with appropriate status code and response wrapper
+     */
+    public static ResponseEntity<ResponseWrapper<Double>> asResponse(DoubleResult result) {
+        ResultOutcomeRecorderProvider.getRecorder().record(currentHandler(), result.isSuccess(), result.getError());
+        if (!result.isSuccess())
+            return asError(result.getError());
+
+        return ResponseEntity.ok(ResponseWrapper.success(result.getAsDouble(), result.getMessage()));
+    }
+
+    // Controller method handling the current Spring MVC request, for the outcome recorder
+    private static Method currentHandler() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object handler = attributes.getAttribute(BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethod() : null;
+    }
+
     public static <T> ResponseEntity<ResponseWrapper<T>> asError(Error exception) {
-        return switch (exception) {
-            case UnauthorizedError e ->
-                new ResponseEntity<>(ResponseWrapper.failure(e.getMessage()), HttpStatus.UNAUTHORIZED);
-            case EntityNotFoundError e ->
-                new ResponseEntity<>(ResponseWrapper.failure(e.getMessage()), HttpStatus.NOT_FOUND);
-            case EntityAlreadyExistsError e ->
-                new ResponseEntity<>(ResponseWrapper.failure(e.getMessage()), HttpStatus.CONFLICT);
-            case ValidationError e ->
-                new ResponseEntity<>(ResponseWrapper.failure(e.getMessage()), HttpStatus.BAD_REQUEST);
-            default -> new ResponseEntity<>(ResponseWrapper.failure(exception.getMessage()),
-                    HttpStatus.INTERNAL_SERVER_ERROR);
-        };
+        return new ResponseEntity<>(ResponseWrapper.failure(exception), statusOf(exception));
+    }
+
+    /**
+     * Converts an error to an {@code application/problem+json} response, see
+     * {@link ErrorProblemMapper}.
+     * 
+     * @param error the error to convert
+     * @return ResponseEntity with the mapped status and problem detail body
+     */
+    public static ResponseEntity<ProblemDetail> asProblem(Error error) {
+        return ResponseEntity.of(ErrorProblemMapperProvider.getErrorProblemMapper().toProblemDetail(error)).build();
+    }
+
+    /**
+     * Builds the response body for a Result, without the HTTP status.
+     * 
+     * @param <T> the type of data
+     * @param result the Result to convert
+     * @return success or failure response wrapper
+     */
+    public static <T> ResponseWrapper<T> asBody(Result<T> result) {
+        if (!result.isSuccess())
+            return result.getError() != null ? ResponseWrapper.failure(result.getError())
+                    : ResponseWrapper.failure(result.getMessage());
+
+        return ResponseWrapper.success(result.getData(), result.getMessage());
+    }
+
+    /**
+     * Returns the HTTP status an error is mapped to, see {@link #asResponse(Result)}.
+     * 
+     * <p>Shared by every response path (servlet and reactive) so they all agree on status codes.
+     * Resolved by the configured {@link ErrorStatusMapper}.</p>
+     * 
+     * @param error the error to map, may be null
+     * @return the HTTP status for the error
+     */
+    public static HttpStatus statusOf(Error error) {
+        return ErrorStatusMapperProvider.getErrorStatusMapper().statusOf(error);
     }
 }
@@ -0,0 +1,94 @@
+package io.github.smit_joshi814.spring.boot.result.api;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.RestClient;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+
+/**
+ * Decodes responses of services using this starter straight into {@code Result<T>} with
+ * {@link RestClient}.
+ * 
+ * <p>The body is read with {@code exchange}, so the HTTP status does not raise an exception: a
+ * 404 comes back as a failed Result carrying the remote {@code EntityNotFoundError}, ready to be
+ * returned or propagated as-is. For {@code WebClient} use
+ * {@code ResultMono.fromResponse(Class)}.</p>
+ * 
+ * <p>{@code Result} binds its deserializer on the type, so any client works, including one from
+ * {@code RestClient.create()}.</p>
+ * 
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Result<User> user = restClient.get()
+ *         .uri("/users/{id}", id)
+ *         .exchange(ResultClients.toResult(User.class));
+ * }</pre>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class ResultClients {
+    private static final ClassValue<ParameterizedTypeReference<?>> RESULT_TYPES = new ClassValue<>() {
+        @Override
+        protected ParameterizedTypeReference<?> computeValue(Class<?> type) {
+            return ParameterizedTypeReference.forType(
+                    ResolvableType.forClassWithGenerics(Result.class, type).getType());
+        }
+    };
+
+    private ResultClients() {
+    }
+
+    /**
+     * Returns the {@code Result<T>} type reference for the given data type, built once per type.
+     * 
+     * @param <T> the type of data
+     * @param dataType the class of data
+     * @return type reference of {@code Result<T>}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ParameterizedTypeReference<Result<T>> resultType(Class<T> dataType) {
+        return (ParameterizedTypeReference<Result<T>>) RESULT_TYPES.get(dataType);
+    }
+
+    public static <T> RestClient.RequestHeadersSpec.ExchangeFunction<Result<T>> toResult(Class<T> dataType) {
+        return toResult(resultType(dataType));
+    }
+
+    /**
+     * Returns an exchange function decoding the body into a Result whatever the status.
+     * 
+     * @param <T> the type of data
+     * @param resultType the {@code Result<T>} type, for generic data such as lists
+     * @return exchange function for {@code RestClient.RequestHeadersSpec#exchange}
+     */
+    public static <T> RestClient.RequestHeadersSpec.ExchangeFunction<Result<T>> toResult(
+            ParameterizedTypeReference<Result<T>> resultType) {
+        return (request, response) -> {
+            Result<T> result = response.bodyTo(resultType);
+            return result != null ? result : fromStatus(response.getStatusCode());
+        };
+    }
+
+    /**
+     * Returns the Result for a response without body: the shared {@link Result#ok()} for 2xx
+     * statuses, otherwise a failure whose code is the status value.
+     * 
+     * @param <T> the type of data
+     * @param status the response status
+     * @return Result for the status
+     */
+    public static <T> Result<T> fromStatus(HttpStatusCode status) {
+        if (status.is2xxSuccessful()) {
+            return Result.ok();
+        }
+        HttpStatus known = HttpStatus.resolve(status.value());
+        String message = known != null ? known.getReasonPhrase() : "HTTP " + status.value();
+        return Result.failure(new Error(String.valueOf(status.value()), message));
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.smit_joshi814.spring.boot.result.domain.errors;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Error made of every failure collected while combining several Results.
+ * 
+ * <p>The message is the individual messages joined with {@code "; "}.</p>
+ */
+public final class CompositeError extends Error {
+    private final List<Error> errors;
+
+    public CompositeError(List<Error> errors) {
+        super(errors.stream().map(Error::getMessage).collect(Collectors.joining("; ")));
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<Error> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String getType() {
+        return ErrorTypes.COMPOSITE;
+    }
+}
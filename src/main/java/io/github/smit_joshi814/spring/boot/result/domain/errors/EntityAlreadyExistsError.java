@@ -4,4 +4,21 @@ public final class EntityAlreadyExistsError extends Error {
     public EntityAlreadyExistsError(String message) {
         super(message);
     }
+
+    public EntityAlreadyExistsError(String code, String message) {
+        super(code, message);
+    }
+
+    public static EntityAlreadyExistsError of(String code) {
+        return ErrorRegistry.get(EntityAlreadyExistsError.class, EntityAlreadyExistsError::new, code, code);
+    }
+
+    public static EntityAlreadyExistsError of(String code, String message) {
+        return ErrorRegistry.get(EntityAlreadyExistsError.class, EntityAlreadyExistsError::new, code, message);
+    }
+
+    @Override
+    public String getType() {
+        return ErrorTypes.ENTITY_ALREADY_EXISTS;
+    }
 }
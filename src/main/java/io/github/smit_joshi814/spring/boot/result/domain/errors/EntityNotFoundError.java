@@ -4,4 +4,21 @@ public final class EntityNotFoundError extends Error {
     public EntityNotFoundError(String message) {
         super(message);
     }
+
+    public EntityNotFoundError(String code, String message) {
+        super(code, message);
+    }
+
+    public static EntityNotFoundError of(String code) {
+        return ErrorRegistry.get(EntityNotFoundError.class, EntityNotFoundError::new, code, code);
+    }
+
+    public static EntityNotFoundError of(String code, String message) {
+        return ErrorRegistry.get(EntityNotFoundError.class, EntityNotFoundError::new, code, message);
+    }
+
+    @Override
+    public String getType() {
+        return ErrorTypes.ENTITY_NOT_FOUND;
+    }
 }
@@ -1,14 +1,56 @@
 package io.github.smit_joshi814.spring.boot.result.domain.errors;
 
 public class Error {
-    private String message;
+    private final String code;
+    private final String message;
 
     public Error(String message) {
+        this(null, message);
+    }
+
+    public Error(String code, String message) {
+        this.code = code;
         this.message = message;
     }
 
+    /**
+     * Returns the shared error registered under the given code, using the code as message.
+     * 
+     * @param code stable, machine-readable error code
+     * @return cached error instance
+     */
+    public static Error of(String code) {
+        return ErrorRegistry.get(Error.class, Error::new, code, code);
+    }
+
+    /**
+     * Returns the shared error with the given code and message, creating it on first use. Meant
+     * for constant messages, see {@link ErrorRegistry}.
+     * 
+     * @param code stable, machine-readable error code
+     * @param message message used when the error is first created
+     * @return cached error instance
+     */
+    public static Error of(String code, String message) {
+        return ErrorRegistry.get(Error.class, Error::new, code, message);
+    }
+
+    public String getCode() {
+        return code;
+    }
+
     public String getMessage() {
         return message;
     }
 
+    /**
+     * Returns the discriminator written to the response envelope, so clients can rebuild an
+     * error of the same subclass. Subclasses override this; see {@link ErrorTypes}.
+     * 
+     * @return the error type discriminator
+     */
+    public String getType() {
+        return ErrorTypes.ERROR;
+    }
+
 }
@@ -0,0 +1,85 @@
+package io.github.smit_joshi814.spring.boot.result.domain.errors;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Cache of pre-built error instances behind the {@code of} factories of {@link Error} and its
+ * subclasses, keyed by error type, code and message.
+ *
+ * <p>Errors are immutable, so one instance per code and message can be shared by every request
+ * that fails with it. Codes and messages are expected to be constants; once
+ * {@value #MAX_ERRORS_PER_TYPE} instances of a type are cached, further ones are created without
+ * being cached, so dynamic messages cannot grow the registry without bound.</p>
+ */
+public final class ErrorRegistry {
+    /** Maximum number of shared instances kept per error type. */
+    public static final int MAX_ERRORS_PER_TYPE = 1024;
+
+    private static final ClassValue<Errors> REGISTRY = new ClassValue<>() {
+        @Override
+        protected Errors computeValue(Class<?> type) {
+            return new Errors();
+        }
+    };
+
+    private ErrorRegistry() {
+    }
+
+    /**
+     * Returns the shared error of the given type, code and message, creating it on first use.
+     *
+     * @param <E> the error type
+     * @param type the error class
+     * @param factory constructor taking the code and message
+     * @param code stable, machine-readable error code
+     * @param message error message
+     * @return cached error instance, or a new one once the registry of the type is full
+     */
+    static <E extends Error> E get(Class<E> type, BiFunction<String, String, E> factory, String code,
+            String message) {
+        if (code == null || message == null) {
+            return factory.apply(code, message);
+        }
+        Errors errors = REGISTRY.get(type);
+        ConcurrentMap<String, Error> byMessage = errors.byCode.get(code);
+        Error error = byMessage != null ? byMessage.get(message) : null;
+        if (error != null) {
+            return type.cast(error);
+        }
+        if (errors.size.get() >= MAX_ERRORS_PER_TYPE) {
+            return factory.apply(code, message);
+        }
+        byMessage = errors.byCode.computeIfAbsent(code, key -> new ConcurrentHashMap<>());
+        E created = factory.apply(code, message);
+        Error previous = byMessage.putIfAbsent(message, created);
+        if (previous != null) {
+            return type.cast(previous);
+        }
+        errors.size.incrementAndGet();
+        return created;
+    }
+
+    /**
+     * Tells whether the error is the shared instance returned by an {@code of} factory, which
+     * makes it a constant that can be cached by identity.
+     *
+     * @param error the error to check, may be null
+     * @return true if the error is held by the registry
+     */
+    public static boolean isShared(Error error) {
+        if (error == null || error.getCode() == null || error.getMessage() == null) {
+            return false;
+        }
+        ConcurrentMap<String, Error> byMessage = REGISTRY.get(error.getClass()).byCode.get(error.getCode());
+        return byMessage != null && byMessage.get(error.getMessage()) == error;
+    }
+
+    // code -> message -> shared instance, for one error type
+    private static final class Errors {
+        private final ConcurrentMap<String, ConcurrentMap<String, Error>> byCode = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.smit_joshi814.spring.boot.result.domain.errors;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Wire discriminators of the error types, and the factories used to rebuild an {@link Error} of
+ * the right subclass when a response envelope is decoded on the client side.
+ * 
+ * <p>Every error reports its discriminator through {@link Error#getType()}. Applications with
+ * their own {@link Error} subclasses override {@code getType()} and {@link #register} a factory
+ * for it; unknown types are decoded as a plain {@link Error} that keeps code and message.</p>
+ * 
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * ErrorTypes.register("PAYMENT_DECLINED", PaymentDeclinedError::new);
+ * }</pre>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class ErrorTypes {
+    public static final String ERROR = "ERROR";
+    public static final String ENTITY_NOT_FOUND = "ENTITY_NOT_FOUND";
+    public static final String ENTITY_ALREADY_EXISTS = "ENTITY_ALREADY_EXISTS";
+    public static final String VALIDATION = "VALIDATION";
+    public static final String UNAUTHORIZED = "UNAUTHORIZED";
+    public static final String TIMEOUT = "TIMEOUT";
+    public static final String EXCEPTION = "EXCEPTION";
+    public static final String COMPOSITE = "COMPOSITE";
+
+    private static final Map<String, BiFunction<String, String, ? extends Error>> FACTORIES = new ConcurrentHashMap<>();
+
+    static {
+        FACTORIES.put(ERROR, Error::new);
+        FACTORIES.put(ENTITY_NOT_FOUND, EntityNotFoundError::new);
+        FACTORIES.put(ENTITY_ALREADY_EXISTS, EntityAlreadyExistsError::new);
+        FACTORIES.put(VALIDATION, ValidationError::new);
+        FACTORIES.put(UNAUTHORIZED, UnauthorizedError::new);
+        FACTORIES.put(TIMEOUT, TimeoutError::new);
+    }
+
+    private ErrorTypes() {
+    }
+
+    /**
+     * Registers the factory used to rebuild errors of the given type.
+     * 
+     * @param type discriminator returned by the error's {@link Error#getType()}
+     * @param factory creates the error from its code (may be null) and message
+     */
+    public static void register(String type, BiFunction<String, String, ? extends Error> factory) {
+        FACTORIES.put(type, factory);
+    }
+
+    /**
+     * Rebuilds an error from its wire form.
+     * 
+     * <p>Exceptions trapped on the remote side are rebuilt as a plain {@link Error} whose code is
+     * the exception class name, since the exception class may not exist locally.</p>
+     * 
+     * @param type the discriminator, may be null
+     * @param code the error code, may be null
+     * @param message the error message
+     * @return an error of the registered subclass, or a plain {@link Error}
+     */
+    public static Error create(String type, String code, String message) {
+        BiFunction<String, String, ? extends Error> factory = type != null ? FACTORIES.get(type) : null;
+        return factory != null ? factory.apply(code, message) : new Error(code, message);
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.smit_joshi814.spring.boot.result.domain.errors;
+
+/**
+ * Error recording an exception trapped by {@code Result.of} or {@code Result.tryAsync}.
+ * 
+ * <p>Only the exception type and message are kept, not the exception itself, so a failed Result
+ * does not pin the stack trace and its frames in memory. The code is the exception class name.</p>
+ */
+public final class ExceptionError extends Error {
+    private final Class<? extends Throwable> exceptionType;
+
+    public ExceptionError(Throwable exception) {
+        super(exception.getClass().getName(),
+                exception.getMessage() != null ? exception.getMessage() : exception.getClass().getSimpleName());
+        this.exceptionType = exception.getClass();
+    }
+
+    public Class<? extends Throwable> getExceptionType() {
+        return exceptionType;
+    }
+
+    @Override
+    public String getType() {
+        return ErrorTypes.EXCEPTION;
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.smit_joshi814.spring.boot.result.domain.errors;
+
+public final class TimeoutError extends Error {
+    public TimeoutError(String message) {
+        super(message);
+    }
+
+    public TimeoutError(String code, String message) {
+        super(code, message);
+    }
+
+    public static TimeoutError of(String code) {
+        return ErrorRegistry.get(TimeoutError.class, TimeoutError::new, code, code);
+    }
+
+    public static TimeoutError of(String code, String message) {
+        return ErrorRegistry.get(TimeoutError.class, TimeoutError::new, code, message);
+    }
+
+    @Override
+    public String getType() {
+        return ErrorTypes.TIMEOUT;
+    }
+}
@@ -4,4 +4,21 @@ public final class UnauthorizedError extends Error {
     public UnauthorizedError(String message) {
         super(message);
     }
+
+    public UnauthorizedError(String code, String message) {
+        super(code, message);
+    }
+
+    public static UnauthorizedError of(String code) {
+        return ErrorRegistry.get(UnauthorizedError.class, UnauthorizedError::new, code, code);
+    }
+
+    public static UnauthorizedError of(String code, String message) {
+        return ErrorRegistry.get(UnauthorizedError.class, UnauthorizedError::new, code, message);
+    }
+
+    @Override
+    public String getType() {
+        return ErrorTypes.UNAUTHORIZED;
+    }
 }
@@ -1,8 +1,24 @@
 package io.github.smit_joshi814.spring.boot.result.domain.errors;
 
 public final class ValidationError extends Error {
-    
     public ValidationError(String message) {
         super(message);
     }
+
+    public ValidationError(String code, String message) {
+        super(code, message);
+    }
+
+    public static ValidationError of(String code) {
+        return ErrorRegistry.get(ValidationError.class, ValidationError::new, code, code);
+    }
+
+    public static ValidationError of(String code, String message) {
+        return ErrorRegistry.get(ValidationError.class, ValidationError::new, code, message);
+    }
+
+    @Override
+    public String getType() {
+        return ErrorTypes.VALIDATION;
+    }
 }
@@ -3,9 +3,15 @@ package io.github.smit_joshi814.spring.boot.result.infrastructure.aspects;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import io.github.smit_joshi814.spring.boot.result.Result;
 import io.github.smit_joshi814.spring.boot.result.annotations.PublishEvent;
 import io.github.smit_joshi814.spring.boot.result.domain.events.ResultEvent;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultAspectRecorderProvider;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultOutcomeRecorderProvider;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultAspectRecorder;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultAspectRecorder.Advice;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultAspectRecorder.Outcome;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
@@ -21,10 +27,27 @@ public final class EventPublishingAspect {
 
     @Around("@annotation(publishEvent)")
     public Object publishResultEvent(ProceedingJoinPoint pjp, PublishEvent publishEvent) throws Throwable {
-        Object result = pjp.proceed();
+        ResultAspectRecorder recorder = ResultAspectRecorderProvider.getRecorder();
+        boolean timed = recorder != ResultAspectRecorder.NONE;
+        long start = timed ? System.nanoTime() : 0L;
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable ex) {
+            if (timed) {
+                recorder.recordExecution(Advice.PUBLISH_EVENT, Outcome.EXCEPTION, System.nanoTime() - start);
+            }
+            throw ex;
+        }
+
+        if (timed) {
+            recorder.recordExecution(Advice.PUBLISH_EVENT, outcomeOf(result), System.nanoTime() - start);
+        }
 
         if (result instanceof Result<?>) {
             Result<?> resultObj = (Result<?>) result;
+            ResultOutcomeRecorderProvider.getAspectRecorder().record(
+                ((MethodSignature) pjp.getSignature()).getMethod(), resultObj.isSuccess(), resultObj.getError());
             String eventName = publishEvent.eventName().isEmpty() 
                 ? pjp.getSignature().getName() 
                 : publishEvent.eventName();
@@ -43,10 +66,21 @@ public final class EventPublishingAspect {
                     pjp.getSignature().getName(), 
                     pjp.getArgs()
                 );
+                long publishStart = timed ? System.nanoTime() : 0L;
                 eventPublisher.publishEvent(event);
+                if (timed) {
+                    recorder.recordPublish(eventName, System.nanoTime() - publishStart);
+                }
             }
         }
 
         return result;
     }
+
+    private static Outcome outcomeOf(Object result) {
+        if (result instanceof Result<?> resultObj) {
+            return resultObj.isSuccess() ? Outcome.SUCCESS : Outcome.FAILURE;
+        }
+        return Outcome.UNKNOWN;
+    }
 }
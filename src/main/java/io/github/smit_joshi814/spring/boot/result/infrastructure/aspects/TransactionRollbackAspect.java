@@ -3,6 +3,13 @@ package io.github.smit_joshi814.spring.boot.result.infrastructure.aspects;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultAspectRecorderProvider;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultOutcomeRecorderProvider;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultAspectRecorder;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultAspectRecorder.Advice;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultAspectRecorder.Outcome;
 import io.github.smit_joshi814.spring.boot.result.internal.TransactionalOperation;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
@@ -11,15 +18,41 @@ import org.springframework.transaction.interceptor.TransactionAspectSupport;
 @Component
 public final class TransactionRollbackAspect {
 
-    @Around("@annotation(RollbackOnFailure)")
+    @Around("@annotation(io.github.smit_joshi814.spring.boot.result.annotations.RollbackOnFailure)")
     public Object handleTransactionRollback(ProceedingJoinPoint pjp) throws Throwable {
-        Object result = pjp.proceed();
+        ResultAspectRecorder recorder = ResultAspectRecorderProvider.getRecorder();
+        boolean timed = recorder != ResultAspectRecorder.NONE;
+        long start = timed ? System.nanoTime() : 0L;
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable ex) {
+            if (timed) {
+                recorder.recordExecution(Advice.ROLLBACK_ON_FAILURE, Outcome.EXCEPTION, System.nanoTime() - start);
+            }
+            throw ex;
+        }
+
+        if (result instanceof Result<?> resultObj) {
+            ResultOutcomeRecorderProvider.getAspectRecorder().record(
+                    ((MethodSignature) pjp.getSignature()).getMethod(), resultObj.isSuccess(), resultObj.getError());
+        }
 
         if (result instanceof TransactionalOperation) {
             TransactionalOperation operation = (TransactionalOperation) result;
-            if (operation.shouldRollback()) {
+            long decisionStart = timed ? System.nanoTime() : 0L;
+            boolean rollback = operation.shouldRollback();
+            if (rollback) {
                 TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             }
+            if (timed) {
+                long end = System.nanoTime();
+                recorder.recordExecution(Advice.ROLLBACK_ON_FAILURE, rollback ? Outcome.FAILURE : Outcome.SUCCESS,
+                        decisionStart - start);
+                recorder.recordRollback(rollback, end - decisionStart);
+            }
+        } else if (timed) {
+            recorder.recordExecution(Advice.ROLLBACK_ON_FAILURE, Outcome.UNKNOWN, System.nanoTime() - start);
         }
         return result;
     }
@@ -0,0 +1,85 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.ResultCborEncoder;
+
+/**
+ * Binary encodings of the response envelope, content-negotiated next to JSON.
+ * 
+ * <p>When {@code jackson-dataformat-cbor} or {@code jackson-dataformat-smile} is on the classpath,
+ * {@code application/cbor} and {@code application/x-jackson-smile} converters (MVC,
+ * {@code RestClient}) and codecs (WebFlux, {@code WebClient}) are registered with mappers built from
+ * the application's {@link Jackson2ObjectMapperBuilder}, so they carry the Result serializers and
+ * deserializer. JSON stays the default for clients that do not ask for a binary type.</p>
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnClass({ ObjectMapper.class, Jackson2ObjectMapperBuilder.class })
+public class BinaryResultAutoConfiguration {
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(CBORFactory.class)
+    @ConditionalOnBean(Jackson2ObjectMapperBuilder.class)
+    static class CborConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MappingJackson2CborHttpMessageConverter resultCborHttpMessageConverter(
+                Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+        }
+
+        @Bean
+        @ConditionalOnClass(WebClient.class)
+        public CodecCustomizer resultCborCodecCustomizer(Jackson2ObjectMapperBuilder builder) {
+            ObjectMapper cborMapper = builder.factory(new CBORFactory()).build();
+            return configurer -> {
+                configurer.customCodecs().register(new ResultCborEncoder(cborMapper));
+                configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SmileFactory.class)
+    @ConditionalOnBean(Jackson2ObjectMapperBuilder.class)
+    static class SmileConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MappingJackson2SmileHttpMessageConverter resultSmileHttpMessageConverter(
+                Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+        }
+
+        @Bean
+        @ConditionalOnClass(WebClient.class)
+        public CodecCustomizer resultSmileCodecCustomizer(Jackson2ObjectMapperBuilder builder) {
+            ObjectMapper smileMapper = builder.factory(new SmileFactory()).build();
+            return configurer -> {
+                configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE));
+                configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE));
+            };
+        }
+    }
+}
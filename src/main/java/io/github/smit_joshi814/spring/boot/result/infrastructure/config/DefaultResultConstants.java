@@ -1,10 +1,12 @@
 package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
 
 public final class DefaultResultConstants implements ResultConstants {
+    public static final String SUCCESS_MESSAGE = "Operation completed successfully.";
+
 
     @Override
     public String getSuccessMessage() {
-        return "Operation completed successfully.";
+        return SUCCESS_MESSAGE;
     }
 
     @Override
@@ -0,0 +1,35 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import io.github.smit_joshi814.spring.boot.result.api.ErrorProblemMapper;
+
+public final class ErrorProblemMapperProvider {
+    private static volatile ErrorProblemMapper INSTANCE = new ErrorProblemMapper(ErrorProblemMapper.DEFAULT_TYPE_BASE);
+    private static volatile boolean PROBLEM_DETAILS = false;
+
+    // Private constructor to prevent instantiation
+    private ErrorProblemMapperProvider() {
+    }
+
+    // Mapper used by ResponseUtils.asProblem
+    public static ErrorProblemMapper getErrorProblemMapper() {
+        return INSTANCE;
+    }
+
+    // Method to set the instance manually, e.g. from the Spring auto-configuration
+    public static void setErrorProblemMapper(ErrorProblemMapper mapper) {
+        if (mapper == null) {
+            throw new IllegalArgumentException("ErrorProblemMapper instance cannot be null");
+        }
+        INSTANCE = mapper;
+    }
+
+    // Whether failures are answered with problem details, see result.web.error-format
+    public static boolean isProblemDetails() {
+        return PROBLEM_DETAILS;
+    }
+
+    // Method to set the error format manually, e.g. from the Spring auto-configuration
+    public static void setProblemDetails(boolean problemDetails) {
+        PROBLEM_DETAILS = problemDetails;
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import io.github.smit_joshi814.spring.boot.result.api.ErrorStatusMapper;
+
+public final class ErrorStatusMapperProvider {
+    private static volatile ErrorStatusMapper INSTANCE = ErrorStatusMapper.builder().build();
+
+    // Private constructor to prevent instantiation
+    private ErrorStatusMapperProvider() {
+    }
+
+    // Mapper used by ResponseUtils.statusOf and the Result response handlers
+    public static ErrorStatusMapper getErrorStatusMapper() {
+        return INSTANCE;
+    }
+
+    // Method to set the instance manually, e.g. from the Spring auto-configuration
+    public static void setErrorStatusMapper(ErrorStatusMapper mapper) {
+        if (mapper == null) {
+            throw new IllegalArgumentException("ErrorStatusMapper instance cannot be null");
+        }
+        INSTANCE = mapper;
+    }
+}
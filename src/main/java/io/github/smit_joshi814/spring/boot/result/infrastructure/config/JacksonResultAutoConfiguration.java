@@ -0,0 +1,25 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.ResultJacksonModule;
+
+/**
+ * Registers {@link ResultJacksonModule}, picked up by Spring Boot's Jackson auto-configuration.
+ */
+@AutoConfiguration(before = JacksonAutoConfiguration.class)
+@ConditionalOnClass(ObjectMapper.class)
+public class JacksonResultAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ResultJacksonModule resultJacksonModule() {
+        return new ResultJacksonModule();
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.smit_joshi814.spring.boot.result.api.ErrorProblemMapper;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.handlers.ResultHandlerResultHandler;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.FailureBodyCache;
+
+/**
+ * Auto-configuration of the WebFlux integration, active in reactive web applications only.
+ * 
+ * <p>Registers {@link ResultHandlerResultHandler} so annotated controllers can return
+ * {@code Result<T>} or {@code Mono<Result<T>>}. Failure bodies are served from a
+ * {@link FailureBodyCache} sized by {@code result.web.failure-cache-size}, or rendered as problem
+ * details with {@code result.web.error-format=problem-detail}.</p>
+ */
+@AutoConfiguration(after = WebFluxAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(HandlerResultHandler.class)
+@EnableConfigurationProperties(ResultProperties.class)
+public class ReactiveResultAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ObjectMapper.class)
+    public FailureBodyCache resultFailureBodyCache(ObjectMapper objectMapper, ResultProperties properties) {
+        return new FailureBodyCache(objectMapper, properties.getWeb().getFailureCacheSize());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ResultHandlerResultHandler resultHandlerResultHandler(ServerCodecConfigurer serverCodecConfigurer,
+            @Qualifier("webFluxContentTypeResolver") RequestedContentTypeResolver contentTypeResolver,
+            @Qualifier("webFluxAdapterRegistry") ReactiveAdapterRegistry adapterRegistry,
+            ObjectProvider<FailureBodyCache> failureBodyCache, ErrorProblemMapper errorProblemMapper,
+            ResultProperties properties) {
+        boolean problemDetails = properties.getWeb().getErrorFormat() == ResultProperties.ErrorFormat.PROBLEM_DETAIL;
+        FailureBodyCache failureBodies = properties.getWeb().getFailureCacheSize() > 0 && !problemDetails
+                ? failureBodyCache.getIfAvailable()
+                : null;
+        return new ResultHandlerResultHandler(serverCodecConfigurer.getWriters(), contentTypeResolver,
+                adapterRegistry, failureBodies, problemDetails ? errorProblemMapper : null);
+    }
+}
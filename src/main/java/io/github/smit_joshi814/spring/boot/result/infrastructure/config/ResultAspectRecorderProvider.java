@@ -0,0 +1,32 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultAspectRecorder;
+
+public final class ResultAspectRecorderProvider {
+    private static volatile ResultAspectRecorder INSTANCE = ResultAspectRecorder.NONE;
+
+    // Private constructor to prevent instantiation
+    private ResultAspectRecorderProvider() {
+    }
+
+    // Recorder timing the @PublishEvent and @RollbackOnFailure aspects
+    public static ResultAspectRecorder getRecorder() {
+        return INSTANCE;
+    }
+
+    // Method to set the instance manually, e.g. from the Spring auto-configuration
+    public static void setRecorder(ResultAspectRecorder recorder) {
+        if (recorder == null) {
+            throw new IllegalArgumentException("ResultAspectRecorder instance cannot be null");
+        }
+        INSTANCE = recorder;
+    }
+
+    // Restores the no-op recorder if the given one is still installed, e.g. when the Spring
+    // context that installed it closes
+    public static synchronized void resetRecorder(ResultAspectRecorder recorder) {
+        if (INSTANCE == recorder) {
+            INSTANCE = ResultAspectRecorder.NONE;
+        }
+    }
+}
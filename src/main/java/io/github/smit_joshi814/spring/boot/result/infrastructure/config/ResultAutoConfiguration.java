@@ -0,0 +1,206 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.ClassUtils;
+
+import io.github.smit_joshi814.spring.boot.result.api.ErrorProblemMapper;
+import io.github.smit_joshi814.spring.boot.result.api.ErrorStatusMapper;
+import io.github.smit_joshi814.spring.boot.result.api.ErrorStatusMapperCustomizer;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultAspectRecorder;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultOutcomeRecorder;
+
+/**
+ * Auto-configuration of the Result starter.
+ * 
+ * <p>Registers the executor behind {@code Result.async} and installs it in
+ * {@link ResultExecutorProvider}. Define a bean named {@value #ASYNC_EXECUTOR_BEAN_NAME} to use
+ * your own executor instead.</p>
+ * 
+ * <p>Also builds the {@link ErrorStatusMapper} from {@link ErrorStatusMapperCustomizer} beans and
+ * {@code result.web.error-status} properties, and the {@link ErrorProblemMapper}, and installs them
+ * in {@link ErrorStatusMapperProvider} and {@link ErrorProblemMapperProvider}.</p>
+ * 
+ * <p>{@link ResultOutcomeRecorder} beans are installed in {@link ResultOutcomeRecorderProvider},
+ * in order, to be notified of every Result converted to an HTTP response, and a single
+ * {@link ResultAspectRecorder} bean in {@link ResultAspectRecorderProvider}.</p>
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(ResultProperties.class)
+public class ResultAutoConfiguration {
+
+    public static final String ASYNC_EXECUTOR_BEAN_NAME = "resultAsyncExecutor";
+
+    @Bean(name = ASYNC_EXECUTOR_BEAN_NAME)
+    @ConditionalOnMissingBean(name = ASYNC_EXECUTOR_BEAN_NAME)
+    public Executor resultAsyncExecutor(ResultProperties properties) {
+        ResultProperties.Async async = properties.getAsync();
+        if (!async.isVirtualThreads()) {
+            return ForkJoinPool.commonPool();
+        }
+        return ResultExecutorProvider.newVirtualThreadExecutor(async.getThreadNamePrefix());
+    }
+
+    @Bean
+    public AsyncExecutorRegistration resultAsyncExecutorRegistration(
+            @Qualifier(ASYNC_EXECUTOR_BEAN_NAME) Executor executor) {
+        return new AsyncExecutorRegistration(executor);
+    }
+
+    @Bean
+    public OutcomeRecorderRegistration resultOutcomeRecorderRegistration(
+            ObjectProvider<ResultOutcomeRecorder> recorders) {
+        return new OutcomeRecorderRegistration(recorders);
+    }
+
+    @Bean
+    public AspectRecorderRegistration resultAspectRecorderRegistration(ObjectProvider<ResultAspectRecorder> recorder) {
+        return new AspectRecorderRegistration(recorder);
+    }
+
+    /**
+     * Installs the async executor in {@link ResultExecutorProvider} and restores the default one
+     * when the context closes. Closing the context shuts the executor down, so leaving it installed
+     * would make every later {@code Result.async} call fail.
+     */
+    public static final class AsyncExecutorRegistration implements SmartInitializingSingleton, DisposableBean {
+        private final Executor executor;
+
+        AsyncExecutorRegistration(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            ResultExecutorProvider.setExecutor(executor);
+        }
+
+        @Override
+        public void destroy() {
+            ResultExecutorProvider.resetExecutor(executor);
+        }
+    }
+
+    /**
+     * Installs the {@link ResultOutcomeRecorder} beans, in order, in
+     * {@link ResultOutcomeRecorderProvider}, or {@link ResultOutcomeRecorder#NONE} when there are
+     * none, and restores {@code NONE} when the context closes, so a later context does not keep
+     * recording into this one's meter registry.
+     */
+    public static final class OutcomeRecorderRegistration implements SmartInitializingSingleton, DisposableBean {
+        private final ObjectProvider<ResultOutcomeRecorder> recorders;
+        private volatile ResultOutcomeRecorder installed = ResultOutcomeRecorder.NONE;
+
+        OutcomeRecorderRegistration(ObjectProvider<ResultOutcomeRecorder> recorders) {
+            this.recorders = recorders;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            List<ResultOutcomeRecorder> all = recorders.orderedStream().toList();
+            if (all.isEmpty()) {
+                installed = ResultOutcomeRecorder.NONE;
+            } else if (all.size() == 1) {
+                installed = all.get(0);
+            } else {
+                ResultOutcomeRecorder[] chain = all.toArray(ResultOutcomeRecorder[]::new);
+                installed = (handler, success, error) -> {
+                    for (ResultOutcomeRecorder recorder : chain) {
+                        recorder.record(handler, success, error);
+                    }
+                };
+            }
+            ResultOutcomeRecorderProvider.setRecorder(installed);
+        }
+
+        @Override
+        public void destroy() {
+            ResultOutcomeRecorderProvider.resetRecorder(installed);
+        }
+    }
+
+    /**
+     * Installs the unique {@link ResultAspectRecorder} bean in {@link ResultAspectRecorderProvider},
+     * or {@link ResultAspectRecorder#NONE} when there is none, and restores {@code NONE} when the
+     * context closes.
+     */
+    public static final class AspectRecorderRegistration implements SmartInitializingSingleton, DisposableBean {
+        private final ObjectProvider<ResultAspectRecorder> recorder;
+        private volatile ResultAspectRecorder installed = ResultAspectRecorder.NONE;
+
+        AspectRecorderRegistration(ObjectProvider<ResultAspectRecorder> recorder) {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            installed = recorder.getIfUnique(() -> ResultAspectRecorder.NONE);
+            ResultAspectRecorderProvider.setRecorder(installed);
+        }
+
+        @Override
+        public void destroy() {
+            ResultAspectRecorderProvider.resetRecorder(installed);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(HttpStatus.class)
+    static class ErrorResponseConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ErrorStatusMapper errorStatusMapper(ObjectProvider<ErrorStatusMapperCustomizer> customizers,
+                ResultProperties properties, ResourceLoader resourceLoader) {
+            ErrorStatusMapper.Builder builder = ErrorStatusMapper.builder();
+            customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+            for (Map.Entry<String, Integer> entry : properties.getWeb().getErrorStatus().entrySet()) {
+                builder.map(errorType(entry.getKey(), resourceLoader.getClassLoader()),
+                        HttpStatus.valueOf(entry.getValue()));
+            }
+            return builder.build();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ErrorProblemMapper errorProblemMapper(ResultProperties properties) {
+            return new ErrorProblemMapper(properties.getWeb().getProblemTypeBase());
+        }
+
+        @Bean
+        public SmartInitializingSingleton errorResponseMappersRegistration(ErrorStatusMapper errorStatusMapper,
+                ErrorProblemMapper errorProblemMapper, ResultProperties properties) {
+            boolean problemDetails = properties.getWeb().getErrorFormat() == ResultProperties.ErrorFormat.PROBLEM_DETAIL;
+            return () -> {
+                ErrorStatusMapperProvider.setErrorStatusMapper(errorStatusMapper);
+                ErrorProblemMapperProvider.setErrorProblemMapper(errorProblemMapper);
+                ErrorProblemMapperProvider.setProblemDetails(problemDetails);
+            };
+        }
+
+        private static Class<? extends Error> errorType(String className, ClassLoader classLoader) {
+            Class<?> type = ClassUtils.resolveClassName(className, classLoader);
+            if (!Error.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException(
+                        "result.web.error-status key " + className + " is not an " + Error.class.getName());
+            }
+            return type.asSubclass(Error.class);
+        }
+    }
+}
@@ -3,7 +3,7 @@ package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
 import java.util.ServiceLoader;
 
 public final class ResultConstantsProvider {
-    private static ResultConstants INSTANCE;
+    private static volatile ResultConstants INSTANCE;
 
     static {
         INSTANCE = loadResultConstants();
@@ -0,0 +1,39 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+public final class ResultExecutorProvider {
+    private static final Executor DEFAULT = newVirtualThreadExecutor("result-async-");
+    private static volatile Executor INSTANCE = DEFAULT;
+
+    // Private constructor to prevent instantiation
+    private ResultExecutorProvider() {
+    }
+
+    // Executor used by Result.async when no executor is passed explicitly
+    public static Executor getExecutor() {
+        return INSTANCE;
+    }
+
+    // Method to set the instance manually, e.g. from the Spring auto-configuration
+    public static void setExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor instance cannot be null");
+        }
+        INSTANCE = executor;
+    }
+
+    // Restores the default executor if the given one is still installed, e.g. when the Spring
+    // context that installed it closes and shuts it down
+    public static synchronized void resetExecutor(Executor executor) {
+        if (INSTANCE == executor) {
+            INSTANCE = DEFAULT;
+        }
+    }
+
+    // One virtual thread per task, so blocking suppliers never starve a shared pool
+    public static Executor newVirtualThreadExecutor(String threadNamePrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.MicrometerResultAspectRecorder;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.MicrometerResultOutcomeRecorder;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultAspectRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Micrometer metrics of the Result starter, active when a {@link MeterRegistry} bean exists.
+ *
+ * <p>Registers a {@link MicrometerResultOutcomeRecorder}, which {@link ResultAutoConfiguration}
+ * installs in {@link ResultOutcomeRecorderProvider}, and a {@link MicrometerResultAspectRecorder}
+ * timing the {@code @PublishEvent} and {@code @RollbackOnFailure} aspects, installed in
+ * {@link ResultAspectRecorderProvider}. Disable all metrics with
+ * {@code result.metrics.enabled=false}, or only the aspect timers with
+ * {@code result.metrics.aspects.enabled=false}.</p>
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration" })
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "result.metrics", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(ResultProperties.class)
+public class ResultMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MicrometerResultOutcomeRecorder resultOutcomeRecorder(MeterRegistry meterRegistry) {
+        return new MicrometerResultOutcomeRecorder(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ResultAspectRecorder.class)
+    @ConditionalOnProperty(prefix = "result.metrics.aspects", name = "enabled", matchIfMissing = true)
+    public MicrometerResultAspectRecorder resultAspectRecorder(MeterRegistry meterRegistry) {
+        return new MicrometerResultAspectRecorder(meterRegistry);
+    }
+}
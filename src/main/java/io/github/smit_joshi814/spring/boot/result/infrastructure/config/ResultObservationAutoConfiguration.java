@@ -0,0 +1,66 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ObservationResultOutcomeRecorder;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultOutcomeRecorder;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Micrometer Observation integration of the Result starter, active when an
+ * {@link ObservationRegistry} bean exists.
+ *
+ * <p>Registers an {@link ObservationResultOutcomeRecorder}. It is installed in
+ * {@link ResultOutcomeRecorderProvider} for both the controller boundary, next to any other
+ * recorder, and the {@code @PublishEvent} / {@code @RollbackOnFailure} aspects. Disable with
+ * {@code result.observation.enabled=false}.</p>
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration")
+@ConditionalOnClass(ObservationRegistry.class)
+@ConditionalOnBean(ObservationRegistry.class)
+@ConditionalOnProperty(prefix = "result.observation", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(ResultProperties.class)
+public class ResultObservationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ObservationResultOutcomeRecorder observationResultOutcomeRecorder(ObservationRegistry observationRegistry) {
+        return new ObservationResultOutcomeRecorder(observationRegistry);
+    }
+
+    @Bean
+    public AspectOutcomeRecorderRegistration observationResultOutcomeRecorderRegistration(
+            ObservationResultOutcomeRecorder recorder) {
+        return new AspectOutcomeRecorderRegistration(recorder);
+    }
+
+    /**
+     * Installs the recorder for the aspects in {@link ResultOutcomeRecorderProvider} and restores
+     * the no-op recorder when the context closes.
+     */
+    public static final class AspectOutcomeRecorderRegistration implements SmartInitializingSingleton, DisposableBean {
+        private final ResultOutcomeRecorder recorder;
+
+        AspectOutcomeRecorderRegistration(ResultOutcomeRecorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            ResultOutcomeRecorderProvider.setAspectRecorder(recorder);
+        }
+
+        @Override
+        public void destroy() {
+            ResultOutcomeRecorderProvider.resetAspectRecorder(recorder);
+        }
+    }
+}
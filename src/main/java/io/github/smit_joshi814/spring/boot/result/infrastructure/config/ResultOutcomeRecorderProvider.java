@@ -0,0 +1,53 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultOutcomeRecorder;
+
+public final class ResultOutcomeRecorderProvider {
+    private static volatile ResultOutcomeRecorder INSTANCE = ResultOutcomeRecorder.NONE;
+    private static volatile ResultOutcomeRecorder ASPECT_INSTANCE = ResultOutcomeRecorder.NONE;
+
+    // Private constructor to prevent instantiation
+    private ResultOutcomeRecorderProvider() {
+    }
+
+    // Recorder notified by ResponseUtils.asResponse and the Result response handlers
+    public static ResultOutcomeRecorder getRecorder() {
+        return INSTANCE;
+    }
+
+    // Method to set the instance manually, e.g. from the Spring auto-configuration
+    public static void setRecorder(ResultOutcomeRecorder recorder) {
+        if (recorder == null) {
+            throw new IllegalArgumentException("ResultOutcomeRecorder instance cannot be null");
+        }
+        INSTANCE = recorder;
+    }
+
+    // Restores the no-op recorder if the given one is still installed, e.g. when the Spring
+    // context that installed it closes
+    public static synchronized void resetRecorder(ResultOutcomeRecorder recorder) {
+        if (INSTANCE == recorder) {
+            INSTANCE = ResultOutcomeRecorder.NONE;
+        }
+    }
+
+    // Recorder notified by the @PublishEvent and @RollbackOnFailure aspects of the Results they see
+    public static ResultOutcomeRecorder getAspectRecorder() {
+        return ASPECT_INSTANCE;
+    }
+
+    // Method to set the aspect instance manually, e.g. from the Spring auto-configuration
+    public static void setAspectRecorder(ResultOutcomeRecorder recorder) {
+        if (recorder == null) {
+            throw new IllegalArgumentException("ResultOutcomeRecorder instance cannot be null");
+        }
+        ASPECT_INSTANCE = recorder;
+    }
+
+    // Restores the no-op aspect recorder if the given one is still installed
+    public static synchronized void resetAspectRecorder(ResultOutcomeRecorder recorder) {
+        if (ASPECT_INSTANCE == recorder) {
+            ASPECT_INSTANCE = ResultOutcomeRecorder.NONE;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import io.github.smit_joshi814.spring.boot.result.api.ErrorProblemMapper;
+
+/**
+ * Configuration properties of the Result starter, bound under the {@code result} prefix.
+ */
+@ConfigurationProperties(prefix = "result")
+public class ResultProperties {
+
+    private final Async async = new Async();
+
+    private final Web web = new Web();
+
+    private final Metrics metrics = new Metrics();
+
+    private final Observation observation = new Observation();
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public Web getWeb() {
+        return web;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public Observation getObservation() {
+        return observation;
+    }
+
+    public static class Async {
+
+        /**
+         * Run Result.async suppliers on virtual threads. When disabled, the common fork/join pool
+         * is used.
+         */
+        private boolean virtualThreads = true;
+
+        /**
+         * Name prefix of the virtual threads created for Result.async.
+         */
+        private String threadNamePrefix = "result-async-";
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public String getThreadNamePrefix() {
+            return threadNamePrefix;
+        }
+
+        public void setThreadNamePrefix(String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+        }
+    }
+
+    public static class Web {
+
+        /**
+         * Let Spring MVC controllers return Result directly, without ResponseUtils.asResponse.
+         */
+        private boolean returnValueHandler = true;
+
+        /**
+         * Maximum number of pre-rendered failure bodies kept by the Result response handlers, one
+         * per shared error from an Error.of factory. 0 disables the cache.
+         */
+        private int failureCacheSize = 256;
+
+        /**
+         * HTTP status of failed responses per fully qualified Error class name, applied on top of
+         * the defaults and of ErrorStatusMapperCustomizer beans. Subclasses without a mapping of
+         * their own inherit it.
+         */
+        private Map<String, Integer> errorStatus = new LinkedHashMap<>();
+
+        /**
+         * Body of failed responses for controllers returning Result: the ResponseWrapper envelope
+         * or an RFC 9457 problem detail (application/problem+json).
+         */
+        private ErrorFormat errorFormat = ErrorFormat.WRAPPER;
+
+        /**
+         * Prefix of the problem detail type URIs, followed by the kebab-cased Error class name.
+         */
+        private String problemTypeBase = ErrorProblemMapper.DEFAULT_TYPE_BASE;
+
+        public boolean isReturnValueHandler() {
+            return returnValueHandler;
+        }
+
+        public void setReturnValueHandler(boolean returnValueHandler) {
+            this.returnValueHandler = returnValueHandler;
+        }
+
+        public int getFailureCacheSize() {
+            return failureCacheSize;
+        }
+
+        public void setFailureCacheSize(int failureCacheSize) {
+            this.failureCacheSize = failureCacheSize;
+        }
+
+        public Map<String, Integer> getErrorStatus() {
+            return errorStatus;
+        }
+
+        public void setErrorStatus(Map<String, Integer> errorStatus) {
+            this.errorStatus = errorStatus;
+        }
+
+        public ErrorFormat getErrorFormat() {
+            return errorFormat;
+        }
+
+        public void setErrorFormat(ErrorFormat errorFormat) {
+            this.errorFormat = errorFormat;
+        }
+
+        public String getProblemTypeBase() {
+            return problemTypeBase;
+        }
+
+        public void setProblemTypeBase(String problemTypeBase) {
+            this.problemTypeBase = problemTypeBase;
+        }
+    }
+
+    public static class Metrics {
+
+        /**
+         * Count Results converted to HTTP responses in the result.outcomes counter, when a
+         * MeterRegistry is available.
+         */
+        private boolean enabled = true;
+
+        private final Aspects aspects = new Aspects();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Aspects getAspects() {
+            return aspects;
+        }
+    }
+
+    public static class Aspects {
+
+        /**
+         * Time methods annotated with @PublishEvent or @RollbackOnFailure, event publication and
+         * rollback decisions, when a MeterRegistry is available.
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Observation {
+
+        /**
+         * Mark the current Micrometer Observation (and trace span) with the outcome of Results
+         * crossing the controller or aspect boundary, when an ObservationRegistry is available.
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public enum ErrorFormat {
+
+        /**
+         * The success/message/data/error envelope.
+         */
+        WRAPPER,
+
+        /**
+         * RFC 9457 problem details, see ErrorProblemMapper.
+         */
+        PROBLEM_DETAIL
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.smit_joshi814.spring.boot.result.api.ErrorProblemMapper;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.handlers.ResultReturnValueHandler;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.FailureBodyCache;
+
+/**
+ * Auto-configuration of the Spring MVC integration, active in servlet web applications only.
+ * 
+ * <p>Installs {@link ResultReturnValueHandler} ahead of the built-in return value handlers, so it
+ * takes precedence over {@code @ResponseBody} for methods returning {@code Result<T>}. Disable
+ * with {@code result.web.return-value-handler=false}. Failure bodies are served from a
+ * {@link FailureBodyCache} sized by {@code result.web.failure-cache-size}, or rendered as problem
+ * details with {@code result.web.error-format=problem-detail}.</p>
+ */
+@AutoConfiguration(after = WebMvcAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(DispatcherServlet.class)
+@EnableConfigurationProperties(ResultProperties.class)
+public class ServletResultAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ObjectMapper.class)
+    public FailureBodyCache resultFailureBodyCache(ObjectMapper objectMapper, ResultProperties properties) {
+        return new FailureBodyCache(objectMapper, properties.getWeb().getFailureCacheSize());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "result.web", name = "return-value-handler", matchIfMissing = true)
+    public SmartInitializingSingleton resultReturnValueHandlerRegistration(RequestMappingHandlerAdapter adapter,
+            @Qualifier("mvcContentNegotiationManager") ContentNegotiationManager contentNegotiationManager,
+            ObjectProvider<FailureBodyCache> failureBodyCache, ErrorProblemMapper errorProblemMapper,
+            ResultProperties properties) {
+        boolean problemDetails = properties.getWeb().getErrorFormat() == ResultProperties.ErrorFormat.PROBLEM_DETAIL;
+        FailureBodyCache failureBodies = properties.getWeb().getFailureCacheSize() > 0 && !problemDetails
+                ? failureBodyCache.getIfAvailable()
+                : null;
+        return () -> {
+            List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>(adapter.getReturnValueHandlers());
+            handlers.add(0, new ResultReturnValueHandler(adapter.getMessageConverters(), contentNegotiationManager,
+                    failureBodies, problemDetails ? errorProblemMapper : null));
+            adapter.setReturnValueHandlers(handlers);
+        };
+    }
+}
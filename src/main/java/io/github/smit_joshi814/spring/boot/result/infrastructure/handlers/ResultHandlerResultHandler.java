@@ -0,0 +1,153 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.handlers;
+
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolver;
+import org.springframework.web.reactive.result.method.annotation.AbstractMessageWriterResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.github.smit_joshi814.spring.boot.result.ResponseWrapper;
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.api.ErrorProblemMapper;
+import io.github.smit_joshi814.spring.boot.result.api.ResponseUtils;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.FailureBodyCache;
+import io.github.smit_joshi814.spring.boot.result.internal.ReactiveRecording;
+import io.github.smit_joshi814.spring.boot.result.reactive.ResultMono;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux {@link HandlerResultHandler} for controller methods returning {@code Result<T>} or a
+ * single-value async type of it, such as {@code Mono<Result<T>>}.
+ * 
+ * <p>Writes the {@link ResponseWrapper} body with the status from {@link ResponseUtils#statusOf},
+ * so reactive endpoints answer exactly like {@code ResponseUtils.asResponse}. Runs before the
+ * regular {@code @ResponseBody} handler. With a {@link FailureBodyCache}, failures for clients
+ * accepting JSON are answered with the cached bytes; with an {@link ErrorProblemMapper} they are
+ * written as problem details. A {@code Mono} completing empty is answered as the
+ * {@code EMPTY_RESULT} failure of {@link ResultMono#emptyResult()}.</p>
+ */
+public final class ResultHandlerResultHandler extends AbstractMessageWriterResultHandler
+        implements HandlerResultHandler {
+
+    public static final int ORDER = 10;
+
+    private static final MethodParameter BODY_PARAMETER = new MethodParameter(
+            ReflectionUtils.findMethod(ResultHandlerResultHandler.class, "bodyType"), -1);
+
+    private static final MethodParameter PROBLEM_PARAMETER = new MethodParameter(
+            ReflectionUtils.findMethod(ResultHandlerResultHandler.class, "problemType"), -1);
+
+    private final FailureBodyCache failureBodies;
+
+    private final ErrorProblemMapper problems;
+
+    public ResultHandlerResultHandler(List<HttpMessageWriter<?>> writers, RequestedContentTypeResolver resolver,
+            ReactiveAdapterRegistry registry) {
+        this(writers, resolver, registry, null, null);
+    }
+
+    /**
+     * Creates a handler that answers JSON clients with pre-rendered failure bodies.
+     * 
+     * @param writers the message writers
+     * @param resolver the content type resolver
+     * @param registry the reactive adapter registry
+     * @param failureBodies cache of failure bodies, or null to encode every failure
+     */
+    public ResultHandlerResultHandler(List<HttpMessageWriter<?>> writers, RequestedContentTypeResolver resolver,
+            ReactiveAdapterRegistry registry, FailureBodyCache failureBodies) {
+        this(writers, resolver, registry, failureBodies, null);
+    }
+
+    /**
+     * Creates a handler that can write failures as problem details instead of the response wrapper.
+     * 
+     * @param writers the message writers
+     * @param resolver the content type resolver
+     * @param registry the reactive adapter registry
+     * @param failureBodies cache of failure bodies, or null to encode every failure
+     * @param problems mapper rendering failures as problem details, or null to write the wrapper
+     */
+    public ResultHandlerResultHandler(List<HttpMessageWriter<?>> writers, RequestedContentTypeResolver resolver,
+            ReactiveAdapterRegistry registry, FailureBodyCache failureBodies, ErrorProblemMapper problems) {
+        super(writers, resolver, registry);
+        this.failureBodies = failureBodies;
+        this.problems = problems;
+        setOrder(ORDER);
+    }
+
+    @Override
+    public boolean supports(HandlerResult result) {
+        if (Result.class.isAssignableFrom(result.getReturnType().toClass())) {
+            return true;
+        }
+        ReactiveAdapter adapter = getAdapter(result);
+        return adapter != null && !adapter.isMultiValue()
+                && Result.class.isAssignableFrom(result.getReturnType().getGeneric().toClass());
+    }
+
+    @Override
+    public Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result) {
+        Object value = result.getReturnValue();
+        Mono<Object> pending;
+        if (value instanceof Result<?>) {
+            pending = Mono.just(value);
+        } else {
+            ReactiveAdapter adapter = getAdapter(result);
+            pending = value != null ? Mono.from(adapter.toPublisher(value)) : Mono.empty();
+            pending = pending.switchIfEmpty(Mono.fromSupplier(ResultMono::emptyResult));
+        }
+        return pending.flatMap(resolved -> Mono.deferContextual(context -> {
+            Result<?> outcome = (Result<?>) resolved;
+            ReactiveRecording.record(context, result.getReturnTypeSource().getMethod(), outcome.isSuccess(),
+                    outcome.getError());
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(outcome.isSuccess() ? HttpStatus.OK : ResponseUtils.statusOf(outcome.getError()));
+            if (!outcome.isSuccess() && problems != null) {
+                return writeBody(problems.toProblemDetail(outcome.getError()), PROBLEM_PARAMETER, exchange);
+            }
+            if (!outcome.isSuccess() && failureBodies != null && acceptsJson(exchange)) {
+                byte[] body = failureBodies.get(outcome.getError());
+                if (body != null) {
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    response.getHeaders().setContentLength(body.length);
+                    return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+                }
+            }
+            return writeBody(ResponseUtils.asBody(outcome), BODY_PARAMETER, exchange);
+        }));
+    }
+
+    private static boolean acceptsJson(ServerWebExchange exchange) {
+        List<MediaType> accepted = exchange.getRequest().getHeaders().getAccept();
+        if (accepted.isEmpty()) {
+            return true;
+        }
+        for (MediaType mediaType : accepted) {
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Declares the body type handed to the message writers
+    private static ResponseWrapper<?> bodyType() {
+        return null;
+    }
+
+    private static ProblemDetail problemType() {
+        return null;
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.handlers;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.api.ErrorProblemMapper;
+import io.github.smit_joshi814.spring.boot.result.api.ResponseUtils;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultOutcomeRecorderProvider;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.jackson.FailureBodyCache;
+
+/**
+ * Spring MVC return value handler for controller methods returning {@code Result<T>}.
+ * 
+ * <p>Sets the status from {@link ResponseUtils#statusOf} and writes the response wrapper straight
+ * through the message converters, with the same content negotiation as {@code @ResponseBody},
+ * producing the same response as
+ * {@code ResponseUtils.asResponse(result)} without building a {@code ResponseEntity}. It also
+ * applies to {@code CompletableFuture<Result<T>>} once the future completes.</p>
+ * 
+ * <p>When a {@link FailureBodyCache} is configured, failures for clients accepting JSON are
+ * answered with the cached bytes instead of going through the message converters. When an
+ * {@link ErrorProblemMapper} is configured, failures are written as problem details instead.</p>
+ */
+public final class ResultReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final RequestResponseBodyMethodProcessor bodyWriter;
+
+    private final FailureBodyCache failureBodies;
+
+    private final ErrorProblemMapper problems;
+
+    public ResultReturnValueHandler(List<HttpMessageConverter<?>> converters, ContentNegotiationManager manager) {
+        this(converters, manager, null, null);
+    }
+
+    /**
+     * Creates a handler that answers JSON clients with pre-rendered failure bodies.
+     * 
+     * @param converters the message converters
+     * @param manager the content negotiation manager
+     * @param failureBodies cache of failure bodies, or null to serialize every failure
+     */
+    public ResultReturnValueHandler(List<HttpMessageConverter<?>> converters, ContentNegotiationManager manager,
+            FailureBodyCache failureBodies) {
+        this(converters, manager, failureBodies, null);
+    }
+
+    /**
+     * Creates a handler that can write failures as problem details instead of the response wrapper.
+     * 
+     * @param converters the message converters
+     * @param manager the content negotiation manager
+     * @param failureBodies cache of failure bodies, or null to serialize every failure
+     * @param problems mapper rendering failures as problem details, or null to write the wrapper
+     */
+    public ResultReturnValueHandler(List<HttpMessageConverter<?>> converters, ContentNegotiationManager manager,
+            FailureBodyCache failureBodies, ErrorProblemMapper problems) {
+        this.bodyWriter = new RequestResponseBodyMethodProcessor(converters, manager);
+        this.failureBodies = failureBodies;
+        this.problems = problems;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return Result.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest) throws IOException, HttpMediaTypeNotAcceptableException {
+        mavContainer.setRequestHandled(true);
+        if (returnValue == null) {
+            return;
+        }
+        Result<?> result = (Result<?>) returnValue;
+        ResultOutcomeRecorderProvider.getRecorder().record(returnType.getMethod(), result.isSuccess(),
+                result.getError());
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        HttpStatus status = result.isSuccess() ? HttpStatus.OK : ResponseUtils.statusOf(result.getError());
+        response.setStatus(status.value());
+        if (!result.isSuccess() && problems != null) {
+            bodyWriter.handleReturnValue(problems.toProblemDetail(result.getError()), returnType, mavContainer,
+                    webRequest);
+            return;
+        }
+        if (!result.isSuccess() && failureBodies != null
+                && acceptsJson(webRequest.getNativeRequest(HttpServletRequest.class))) {
+            byte[] body = failureBodies.get(result.getError());
+            if (body != null) {
+                ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response);
+                outputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                outputMessage.getHeaders().setContentLength(body.length);
+                outputMessage.getBody().write(body);
+                outputMessage.flush();
+                return;
+            }
+        }
+        bodyWriter.handleReturnValue(ResponseUtils.asBody(result), returnType, mavContainer, webRequest);
+    }
+
+    private static boolean acceptsJson(HttpServletRequest request) {
+        List<MediaType> accepted = new ServletServerHttpRequest(request).getHeaders().getAccept();
+        if (accepted.isEmpty()) {
+            return true;
+        }
+        for (MediaType mediaType : accepted) {
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
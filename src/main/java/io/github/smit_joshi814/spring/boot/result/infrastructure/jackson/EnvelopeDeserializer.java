@@ -0,0 +1,91 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+
+/**
+ * Reads the {@code success/message/data/error} envelope in one pass and hands the fields to
+ * {@link #build}, so the target type is created directly from the stream.
+ * 
+ * <p>The data deserializer is resolved once per target type and cached by Jackson with the
+ * contextual instance. Unknown fields are skipped.</p>
+ */
+abstract class EnvelopeDeserializer<E> extends StdDeserializer<E> implements ContextualDeserializer {
+    private final JsonDeserializer<Object> dataDeserializer;
+
+    EnvelopeDeserializer(Class<?> type, JsonDeserializer<Object> dataDeserializer) {
+        super(type);
+        this.dataDeserializer = dataDeserializer;
+    }
+
+    abstract EnvelopeDeserializer<E> withDataDeserializer(JsonDeserializer<Object> dataDeserializer);
+
+    abstract E build(boolean success, String message, Object data, Error error);
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JavaType type = property != null ? property.getType() : ctxt.getContextualType();
+        JavaType dataType = type != null ? type.containedTypeOrUnknown(0) : ctxt.constructType(Object.class);
+        return withDataDeserializer(ctxt.findContextualValueDeserializer(dataType, property));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartObjectToken()) {
+            return (E) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        boolean success = false;
+        String message = null;
+        Object data = null;
+        // the error object may precede the message, so it is rebuilt once the envelope is read
+        JsonParser errorParser = null;
+        Error error = null;
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            JsonToken token = p.nextToken();
+            switch (field) {
+                case "success" -> success = p.getValueAsBoolean();
+                case "message" -> message = token == JsonToken.VALUE_NULL ? null : p.getValueAsString();
+                case "data" -> data = readData(p, ctxt, token);
+                case "error" -> {
+                    if (message != null || token == JsonToken.VALUE_NULL) {
+                        error = EnvelopeFields.readError(p, message);
+                    } else {
+                        errorParser = ctxt.bufferAsCopyOfValue(p).asParser(p.getCodec());
+                        errorParser.nextToken();
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+        if (errorParser != null) {
+            try (JsonParser buffered = errorParser) {
+                error = EnvelopeFields.readError(buffered, message);
+            }
+        }
+        return build(success, message, data, error);
+    }
+
+    private Object readData(JsonParser p, DeserializationContext ctxt, JsonToken token) throws IOException {
+        if (dataDeserializer == null) {
+            return ctxt.readValue(p, Object.class);
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return dataDeserializer.getNullValue(ctxt);
+        }
+        return dataDeserializer.deserialize(p, ctxt);
+    }
+}
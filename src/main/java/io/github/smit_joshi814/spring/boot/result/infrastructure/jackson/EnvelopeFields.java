@@ -0,0 +1,147 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.jackson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.CompositeError;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.ErrorTypes;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.DefaultResultConstants;
+
+/**
+ * Pre-encoded field names and messages of the {@code success/message/data/error} envelope, shared
+ * by the Result serializers and deserializers.
+ * 
+ * <p>The default success message and the built-in error types are constants of this library, so
+ * their quoted UTF-8 bytes are encoded once and copied straight into the output. Every other
+ * message, type and code is written normally; whole failure bodies of shared errors are cached by
+ * {@link FailureBodyCache} instead.</p>
+ * 
+ * <p>The {@code error} field is only written for failures that carry an {@link Error}:
+ * {@code {"type": ..., "code": ...}}, plus the nested {@code errors} of a {@link CompositeError}.</p>
+ */
+final class EnvelopeFields {
+    static final SerializedString SUCCESS = new SerializedString("success");
+    static final SerializedString MESSAGE = new SerializedString("message");
+    static final SerializedString DATA = new SerializedString("data");
+    static final SerializedString ERROR = new SerializedString("error");
+    static final SerializedString TYPE = new SerializedString("type");
+    static final SerializedString CODE = new SerializedString("code");
+    static final SerializedString ERRORS = new SerializedString("errors");
+
+    private static final SerializedString DEFAULT_SUCCESS_MESSAGE = new SerializedString(
+            DefaultResultConstants.SUCCESS_MESSAGE);
+    private static final Map<String, SerializedString> ERROR_TYPES = Stream.of(ErrorTypes.ERROR,
+            ErrorTypes.ENTITY_NOT_FOUND, ErrorTypes.ENTITY_ALREADY_EXISTS, ErrorTypes.VALIDATION,
+            ErrorTypes.UNAUTHORIZED, ErrorTypes.TIMEOUT, ErrorTypes.EXCEPTION, ErrorTypes.COMPOSITE)
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), SerializedString::new));
+
+    private EnvelopeFields() {
+    }
+
+    static void write(JsonGenerator gen, SerializerProvider provider, boolean success, String message, Object data,
+            Error error) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(success);
+        gen.writeFieldName(MESSAGE);
+        writeMessage(gen, message);
+        gen.writeFieldName(DATA);
+        provider.defaultSerializeValue(data, gen);
+        if (error != null) {
+            gen.writeFieldName(ERROR);
+            writeError(gen, error, false);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeError(JsonGenerator gen, Error error, boolean nested) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(TYPE);
+        SerializedString type = ERROR_TYPES.get(error.getType());
+        if (type != null) {
+            gen.writeString(type);
+        } else {
+            gen.writeString(error.getType());
+        }
+        if (error.getCode() != null) {
+            gen.writeFieldName(CODE);
+            gen.writeString(error.getCode());
+        }
+        if (nested) {
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(error.getMessage());
+        }
+        if (error instanceof CompositeError composite) {
+            gen.writeFieldName(ERRORS);
+            gen.writeStartArray();
+            for (Error each : composite.getErrors()) {
+                writeError(gen, each, true);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeMessage(JsonGenerator gen, String message) throws IOException {
+        if (DEFAULT_SUCCESS_MESSAGE.getValue().equals(message)) {
+            gen.writeString(DEFAULT_SUCCESS_MESSAGE);
+        } else {
+            gen.writeString(message);
+        }
+    }
+
+    /**
+     * Reads an {@code error} object; the parser is on its {@code START_OBJECT} or {@code null}
+     * token.
+     * 
+     * @param message the envelope message, used as the error message of a top-level error
+     * @return the rebuilt error, or null for a null token
+     */
+    static Error readError(JsonParser p, String message) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String type = null;
+        String code = null;
+        List<Error> errors = null;
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            JsonToken token = p.nextToken();
+            switch (field) {
+                case "type" -> type = token == JsonToken.VALUE_NULL ? null : p.getValueAsString();
+                case "code" -> code = token == JsonToken.VALUE_NULL ? null : p.getValueAsString();
+                case "message" -> message = token == JsonToken.VALUE_NULL ? null : p.getValueAsString();
+                case "errors" -> errors = readErrors(p);
+                default -> p.skipChildren();
+            }
+        }
+        if (errors != null && ErrorTypes.COMPOSITE.equals(type)) {
+            return new CompositeError(errors);
+        }
+        return ErrorTypes.create(type, code, message);
+    }
+
+    private static List<Error> readErrors(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return null;
+        }
+        List<Error> errors = new ArrayList<>();
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            errors.add(readError(p, null));
+        }
+        return errors;
+    }
+}
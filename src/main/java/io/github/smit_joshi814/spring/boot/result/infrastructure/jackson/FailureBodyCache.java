@@ -0,0 +1,57 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.jackson;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.api.ResponseUtils;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.ErrorRegistry;
+
+/**
+ * Bounded cache of pre-rendered JSON bodies for failed Results whose error is a shared constant.
+ * 
+ * <p>Only errors obtained from an {@code of} factory ({@link ErrorRegistry#isShared}) are cached,
+ * keyed by instance, so fixed failures (401 storms, 404 floods) are serialized once and then served
+ * as bytes, while errors built per request with dynamic messages are always written normally and
+ * never take a slot. Bodies are rendered with the application's {@code ObjectMapper}, so they are
+ * byte-identical to what the message converters would write. Once {@code maxEntries} bodies are
+ * cached, further errors are not cached.</p>
+ */
+public final class FailureBodyCache {
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    // shared error instance -> body; Error keeps identity equality
+    private final ConcurrentMap<Error, byte[]> bodies = new ConcurrentHashMap<>();
+
+    public FailureBodyCache(ObjectMapper objectMapper, int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the JSON body for a failure with the given error.
+     * 
+     * @param error the error of the failed Result
+     * @return the rendered body, or null if the error cannot be cached and must be written normally
+     */
+    public byte[] get(Error error) {
+        if (error == null) {
+            return null;
+        }
+        byte[] body = bodies.get(error);
+        if (body != null || bodies.size() >= maxEntries || !ErrorRegistry.isShared(error)) {
+            return body;
+        }
+        try {
+            body = objectMapper.writeValueAsBytes(ResponseUtils.asBody(Result.failure(error)));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+        byte[] previous = bodies.putIfAbsent(error, body);
+        return previous != null ? previous : body;
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.jackson;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import io.github.smit_joshi814.spring.boot.result.ResponseWrapper;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+
+/**
+ * Reads a response envelope into a {@link ResponseWrapper}, rebuilding its typed {@link Error}.
+ */
+public final class ResponseWrapperDeserializer extends EnvelopeDeserializer<ResponseWrapper<?>> {
+
+    public ResponseWrapperDeserializer() {
+        this(null);
+    }
+
+    private ResponseWrapperDeserializer(JsonDeserializer<Object> dataDeserializer) {
+        super(ResponseWrapper.class, dataDeserializer);
+    }
+
+    @Override
+    ResponseWrapperDeserializer withDataDeserializer(JsonDeserializer<Object> dataDeserializer) {
+        return new ResponseWrapperDeserializer(dataDeserializer);
+    }
+
+    @Override
+    ResponseWrapper<?> build(boolean success, String message, Object data, Error error) {
+        return new ResponseWrapper<>(success, message, data, error);
+    }
+}
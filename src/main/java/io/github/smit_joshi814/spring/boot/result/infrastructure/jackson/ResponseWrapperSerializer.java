@@ -0,0 +1,26 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.github.smit_joshi814.spring.boot.result.ResponseWrapper;
+
+/**
+ * Hand-written serializer for {@link ResponseWrapper}, bypassing Jackson's record introspection.
+ */
+public final class ResponseWrapperSerializer extends StdSerializer<ResponseWrapper<?>> {
+
+    public ResponseWrapperSerializer() {
+        super(ResponseWrapper.class, false);
+    }
+
+    @Override
+    public void serialize(ResponseWrapper<?> value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        EnvelopeFields.write(gen, provider, value.success(), value.message(), value.data(),
+                value.error());
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.jackson;
+
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * CBOR encoder for WebFlux responses.
+ * 
+ * <p>{@link Jackson2CborEncoder} only implements {@code encodeValue}, while the server's message
+ * writer always calls {@code encode}. Single values, which is what Result bodies are, are encoded
+ * with {@code encodeValue}; streams are still rejected.</p>
+ */
+public final class ResultCborEncoder extends Jackson2CborEncoder {
+
+    public ResultCborEncoder(ObjectMapper mapper) {
+        super(mapper, MediaType.APPLICATION_CBOR);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+            ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono<?> mono) {
+            return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+        }
+        return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+    }
+}
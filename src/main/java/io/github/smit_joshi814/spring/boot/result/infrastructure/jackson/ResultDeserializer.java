@@ -0,0 +1,35 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.jackson;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+
+/**
+ * Reads a response envelope back into a {@link Result}, so clients can decode responses of this
+ * starter as {@code Result<T>} in any Jackson format (JSON, CBOR, Smile). Failures are rebuilt
+ * with the {@link Error} subclass named by the envelope's {@code error.type}.
+ */
+public final class ResultDeserializer extends EnvelopeDeserializer<Result<?>> {
+
+    public ResultDeserializer() {
+        this(null);
+    }
+
+    private ResultDeserializer(JsonDeserializer<Object> dataDeserializer) {
+        super(Result.class, dataDeserializer);
+    }
+
+    @Override
+    ResultDeserializer withDataDeserializer(JsonDeserializer<Object> dataDeserializer) {
+        return new ResultDeserializer(dataDeserializer);
+    }
+
+    @Override
+    Result<?> build(boolean success, String message, Object data, Error error) {
+        if (success) {
+            return Result.success(data, message);
+        }
+        return Result.failure(error != null ? error : new Error(message));
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import io.github.smit_joshi814.spring.boot.result.ResponseWrapper;
+import io.github.smit_joshi814.spring.boot.result.Result;
+
+/**
+ * Jackson module registering the serializers and deserializers of {@link ResponseWrapper} and
+ * {@link Result}. Both types also name these on themselves with {@code @JsonSerialize} and
+ * {@code @JsonDeserialize}, so mappers without the module, such as the one of
+ * {@code RestClient.create()}, handle the envelope the same way. The module is kept for mappers
+ * that disable annotation introspection.
+ */
+public final class ResultJacksonModule extends SimpleModule {
+
+    public ResultJacksonModule() {
+        super(ResultJacksonModule.class.getSimpleName());
+        addSerializer(new ResponseWrapperSerializer());
+        addSerializer(new ResultSerializer());
+        addDeserializer(ResponseWrapper.class, new ResponseWrapperDeserializer());
+        addDeserializer(Result.class, new ResultDeserializer());
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+
+/**
+ * Serializes a {@link Result} directly in the {@code ResponseWrapper} envelope format, so a Result
+ * can be written without building the wrapper first.
+ */
+public final class ResultSerializer extends StdSerializer<Result<?>> {
+
+    public ResultSerializer() {
+        super(Result.class, false);
+    }
+
+    @Override
+    public void serialize(Result<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        EnvelopeFields.write(gen, provider, value.isSuccess(), value.getMessage(), value.getData(),
+                value.getError());
+    }
+}
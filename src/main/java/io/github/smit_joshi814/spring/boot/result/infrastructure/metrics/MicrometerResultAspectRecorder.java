@@ -0,0 +1,88 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link ResultAspectRecorder} recording Micrometer timers:
+ *
+ * <ul>
+ * <li>{@value #EXECUTION_METRIC}, tagged {@code aspect} and {@code outcome}</li>
+ * <li>{@value #PUBLISH_METRIC}, tagged {@code event}</li>
+ * <li>{@value #ROLLBACK_METRIC}, tagged {@code rollback}</li>
+ * </ul>
+ *
+ * <p>Tags hold no method names or arguments. Execution and rollback timers are registered up front
+ * and chosen by index. Publish timers are registered once per event name, and event names come from
+ * annotations, so they are bounded.</p>
+ */
+public final class MicrometerResultAspectRecorder implements ResultAspectRecorder {
+
+    public static final String EXECUTION_METRIC = "result.aspect.execution";
+
+    public static final String PUBLISH_METRIC = "result.aspect.publish";
+
+    public static final String ROLLBACK_METRIC = "result.aspect.rollback";
+
+    private final MeterRegistry registry;
+
+    // advice ordinal -> outcome ordinal -> timer
+    private final Timer[][] executions;
+
+    private final Timer rolledBack;
+
+    private final Timer committed;
+
+    private final ConcurrentMap<String, Timer> publishes = new ConcurrentHashMap<>();
+
+    public MicrometerResultAspectRecorder(MeterRegistry registry) {
+        this.registry = registry;
+        Advice[] advices = Advice.values();
+        Outcome[] outcomes = Outcome.values();
+        this.executions = new Timer[advices.length][outcomes.length];
+        for (Advice advice : advices) {
+            for (Outcome outcome : outcomes) {
+                executions[advice.ordinal()][outcome.ordinal()] = Timer.builder(EXECUTION_METRIC)
+                        .description("Duration of methods annotated with @PublishEvent or @RollbackOnFailure")
+                        .tag("aspect", advice.tag())
+                        .tag("outcome", outcome.tag())
+                        .register(registry);
+            }
+        }
+        this.rolledBack = rollbackTimer(true);
+        this.committed = rollbackTimer(false);
+    }
+
+    @Override
+    public void recordExecution(Advice advice, Outcome outcome, long nanos) {
+        executions[advice.ordinal()][outcome.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPublish(String eventName, long nanos) {
+        Timer timer = publishes.get(eventName);
+        if (timer == null) {
+            timer = publishes.computeIfAbsent(eventName, name -> Timer.builder(PUBLISH_METRIC)
+                    .description("Duration of publishing ResultEvents, including synchronous listeners")
+                    .tag("event", name)
+                    .register(registry));
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRollback(boolean rollback, long nanos) {
+        (rollback ? rolledBack : committed).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer rollbackTimer(boolean rollback) {
+        return Timer.builder(ROLLBACK_METRIC)
+                .description("Duration of @RollbackOnFailure rollback decisions")
+                .tag("rollback", String.valueOf(rollback))
+                .register(registry);
+    }
+}
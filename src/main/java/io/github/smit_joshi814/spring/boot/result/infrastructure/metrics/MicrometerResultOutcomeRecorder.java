@@ -0,0 +1,81 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.metrics;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link ResultOutcomeRecorder} counting Results in the {@value #METRIC_NAME} counter.
+ *
+ * <p>Tags are {@code class} and {@code method} of the controller method ({@code none} when it is
+ * not known, e.g. for {@code ResponseUtils.asResponse} outside a Spring MVC request), {@code outcome}
+ * ({@code success} or {@code failure}) and {@code error}, the simple name of the Error class
+ * ({@code none} on success). A failure without an Error counts as {@code Error}.</p>
+ *
+ * <p>Counters are registered once per handler method and error class and then looked up by
+ * identity, so recording an outcome builds no tags.</p>
+ */
+public final class MicrometerResultOutcomeRecorder implements ResultOutcomeRecorder {
+
+    public static final String METRIC_NAME = "result.outcomes";
+
+    private static final String NONE = "none";
+
+    // Stands in for the handler method when the caller is not known
+    private static final Object NO_HANDLER = new Object();
+
+    private final MeterRegistry registry;
+
+    private final ConcurrentMap<Object, Counter> successes = new ConcurrentHashMap<>();
+
+    // error class -> handler method -> counter
+    private final ClassValue<ConcurrentMap<Object, Counter>> failures = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Object, Counter> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public MicrometerResultOutcomeRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void record(Method handler, boolean success, Error error) {
+        Object key = handler != null ? handler : NO_HANDLER;
+        if (success) {
+            counter(successes, key, handler, null).increment();
+            return;
+        }
+        Class<? extends Error> errorType = error != null ? error.getClass() : Error.class;
+        counter(failures.get(errorType), key, handler, errorType).increment();
+    }
+
+    private Counter counter(ConcurrentMap<Object, Counter> counters, Object key, Method handler,
+            Class<? extends Error> errorType) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.computeIfAbsent(key, k -> register(handler, errorType));
+    }
+
+    private Counter register(Method handler, Class<? extends Error> errorType) {
+        return Counter.builder(METRIC_NAME)
+                .description("Results converted to HTTP responses")
+                .tag("class", handler != null ? handler.getDeclaringClass().getName() : NONE)
+                .tag("method", handler != null ? handler.getName() : NONE)
+                .tag("outcome", errorType == null ? "success" : "failure")
+                .tag("error", errorType == null ? NONE : simpleName(errorType))
+                .register(registry);
+    }
+
+    private static String simpleName(Class<?> type) {
+        String name = type.getSimpleName();
+        return name.isEmpty() ? type.getName() : name;
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.metrics;
+
+import java.lang.reflect.Method;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * {@link ResultOutcomeRecorder} marking the current {@link Observation}, and so the current trace
+ * span, with the outcome of a Result.
+ *
+ * <p>Every Result sets {@value #SUCCESS_KEY}. Failures also set {@value #ERROR_KEY} to the simple
+ * name of the Error class and {@value #MESSAGE_KEY} to its message, and add a
+ * {@value #FAILURE_EVENT} event named after the Error class, so failure paths can be searched in
+ * the tracing backend without logging them.</p>
+ *
+ * <p>The key values are high cardinality. They reach spans, but are not added as tags to the
+ * observation's metrics (e.g. {@code http.server.requests}), so those metrics keep the same tag keys
+ * for every request. Key values and events are built once per Error class, so only a failure's
+ * message is allocated per call. Does nothing when no observation is current; on WebFlux the
+ * Result handlers make the request observation, kept in the Reactor context, current while
+ * recording.</p>
+ */
+public final class ObservationResultOutcomeRecorder implements ResultOutcomeRecorder {
+
+    public static final String SUCCESS_KEY = "result.success";
+
+    public static final String ERROR_KEY = "result.error";
+
+    public static final String MESSAGE_KEY = "result.error.message";
+
+    public static final String FAILURE_EVENT = "result.failure";
+
+    private static final KeyValue SUCCEEDED = KeyValue.of(SUCCESS_KEY, "true");
+
+    private static final KeyValue FAILED = KeyValue.of(SUCCESS_KEY, "false");
+
+    private static final ClassValue<FailureMarks> FAILURE_MARKS = new ClassValue<>() {
+        @Override
+        protected FailureMarks computeValue(Class<?> type) {
+            String name = type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+            return new FailureMarks(KeyValue.of(ERROR_KEY, name), Observation.Event.of(FAILURE_EVENT, name));
+        }
+    };
+
+    private final ObservationRegistry registry;
+
+    public ObservationResultOutcomeRecorder(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void record(Method handler, boolean success, Error error) {
+        Observation observation = registry.getCurrentObservation();
+        if (observation == null || observation.isNoop()) {
+            return;
+        }
+        if (success) {
+            observation.highCardinalityKeyValue(SUCCEEDED);
+            return;
+        }
+        FailureMarks marks = FAILURE_MARKS.get(error != null ? error.getClass() : Error.class);
+        observation.highCardinalityKeyValue(FAILED);
+        observation.highCardinalityKeyValue(marks.error());
+        if (error != null && error.getMessage() != null) {
+            observation.highCardinalityKeyValue(MESSAGE_KEY, error.getMessage());
+        }
+        observation.event(marks.event());
+    }
+
+    private record FailureMarks(KeyValue error, Observation.Event event) {
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.metrics;
+
+import java.util.Locale;
+
+/**
+ * Callback timing the {@code @PublishEvent} and {@code @RollbackOnFailure} aspects: the annotated
+ * method, the event publication (including synchronous listeners) and the rollback decision.
+ *
+ * <p>Durations are measured in nanoseconds by the aspects, which skip measuring altogether while
+ * the recorder is {@link #NONE}.</p>
+ */
+public interface ResultAspectRecorder {
+
+    /**
+     * Recorder that ignores every measurement.
+     */
+    ResultAspectRecorder NONE = new ResultAspectRecorder() {
+        @Override
+        public void recordExecution(Advice advice, Outcome outcome, long nanos) {
+        }
+
+        @Override
+        public void recordPublish(String eventName, long nanos) {
+        }
+
+        @Override
+        public void recordRollback(boolean rollback, long nanos) {
+        }
+    };
+
+    /**
+     * Records the duration of an annotated method, excluding the aspect's own work.
+     *
+     * @param advice the aspect advice around the method
+     * @param outcome how the method completed
+     * @param nanos the duration in nanoseconds
+     */
+    void recordExecution(Advice advice, Outcome outcome, long nanos);
+
+    /**
+     * Records the duration of publishing a {@code ResultEvent}.
+     *
+     * @param eventName the event name
+     * @param nanos the duration in nanoseconds
+     */
+    void recordPublish(String eventName, long nanos);
+
+    /**
+     * Records the duration of deciding on, and possibly marking, a transaction rollback.
+     *
+     * @param rollback whether the transaction was marked rollback-only
+     * @param nanos the duration in nanoseconds
+     */
+    void recordRollback(boolean rollback, long nanos);
+
+    enum Advice {
+        PUBLISH_EVENT("publish-event"),
+        ROLLBACK_ON_FAILURE("rollback-on-failure");
+
+        private final String tag;
+
+        Advice(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    enum Outcome {
+        /**
+         * The method returned a successful Result.
+         */
+        SUCCESS,
+
+        /**
+         * The method returned a failed Result.
+         */
+        FAILURE,
+
+        /**
+         * The method threw.
+         */
+        EXCEPTION,
+
+        /**
+         * The method returned something other than a Result.
+         */
+        UNKNOWN;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        public String tag() {
+            return tag;
+        }
+    }
+}
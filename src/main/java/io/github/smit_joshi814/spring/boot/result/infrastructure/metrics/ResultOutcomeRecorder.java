@@ -0,0 +1,33 @@
+package io.github.smit_joshi814.spring.boot.result.infrastructure.metrics;
+
+import java.lang.reflect.Method;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+
+/**
+ * Callback notified of every Result turned into an HTTP response, by the Result response handlers
+ * and {@code ResponseUtils.asResponse}. The recorder installed with
+ * {@code ResultOutcomeRecorderProvider.setAspectRecorder} is notified of the Results returned through
+ * the {@code @PublishEvent} and {@code @RollbackOnFailure} aspects instead.
+ *
+ * <p>Called on the request path, so implementations must not block and should avoid allocating
+ * per call.</p>
+ */
+@FunctionalInterface
+public interface ResultOutcomeRecorder {
+
+    /**
+     * Recorder that ignores every outcome.
+     */
+    ResultOutcomeRecorder NONE = (handler, success, error) -> {
+    };
+
+    /**
+     * Records the outcome of a Result.
+     *
+     * @param handler the controller or advised method that returned the Result, or null when not known
+     * @param success whether the Result succeeded
+     * @param error the error of a failed Result, null on success and possibly null on failure
+     */
+    void record(Method handler, boolean success, Error error);
+}
@@ -0,0 +1,69 @@
+package io.github.smit_joshi814.spring.boot.result.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link CompletableFuture} backing {@code Result.async}, whose {@code cancel} also stops the task.
+ *
+ * <p>{@code CompletableFuture.supplyAsync} cannot interrupt its supplier: cancelling only completes
+ * the future, and the task runs on. Here the supplier runs inside a {@link FutureTask}, which
+ * cancelling the future cancels with interruption, so a task still queued never starts and a
+ * running one is interrupted. Exceptions complete the future the same way {@code supplyAsync}
+ * does, wrapped in a {@link CompletionException}.</p>
+ */
+public final class InterruptibleFuture<T> extends CompletableFuture<T> {
+    private final FutureTask<Void> task;
+
+    private InterruptibleFuture(Supplier<T> supplier) {
+        this.task = new FutureTask<>(() -> {
+            try {
+                complete(supplier.get());
+            } catch (Throwable ex) {
+                completeExceptionally(new CompletionException(ex));
+            }
+        }, null);
+    }
+
+    public static <T> CompletableFuture<T> supply(Supplier<T> supplier, Executor executor) {
+        InterruptibleFuture<T> future = new InterruptibleFuture<>(supplier);
+        executor.execute(future.task);
+        return future;
+    }
+
+    /**
+     * Completes with the given value if still pending after the timeout, and then cancels the task
+     * with interruption, so a timed-out supplier gives its thread back.
+     *
+     * @param value the value to complete with on timeout
+     * @param timeout how long to wait, in units of {@code unit}
+     * @param unit the time unit of the timeout
+     * @return this future
+     */
+    public InterruptibleFuture<T> interruptOnTimeout(T value, long timeout, TimeUnit unit) {
+        CompletableFuture.delayedExecutor(timeout, unit, Runnable::run).execute(() -> {
+            if (complete(value)) {
+                task.cancel(true);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        if (cancelled) {
+            task.cancel(true);
+        }
+        return cancelled;
+    }
+
+    @Override
+    public <U> CompletableFuture<U> newIncompleteFuture() {
+        return new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.smit_joshi814.spring.boot.result.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+
+/**
+ * Fork/join implementation of {@code Result.combineParallel}.
+ * 
+ * <p>The list is split into chunks that copy their data straight into a shared, pre-sized array.
+ * The index of the first failure seen so far is shared between chunks: once a failure is known,
+ * chunks located after it stop, and the failure with the lowest index is returned, so the outcome
+ * is the same as the sequential {@code Result.combine}.</p>
+ */
+public final class ParallelCombiner {
+    /** Lists up to this size are combined on the calling thread. */
+    public static final int THRESHOLD = 2048;
+
+    private ParallelCombiner() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Result<List<T>> combine(List<Result<T>> results, ForkJoinPool pool) {
+        List<Result<T>> source = results instanceof RandomAccess ? results : new ArrayList<>(results);
+        Object[] data = new Object[source.size()];
+        AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+
+        pool.invoke(new CombineTask<>(source, data, firstFailure, 0, data.length));
+
+        int failed = firstFailure.get();
+        if (failed != Integer.MAX_VALUE) {
+            return (Result<List<T>>) (Result<?>) source.get(failed);
+        }
+        return Result.success(Collections.unmodifiableList((List<T>) Arrays.asList(data)));
+    }
+
+    private static final class CombineTask<T> extends RecursiveAction {
+        private final List<Result<T>> results;
+        private final Object[] data;
+        private final AtomicInteger firstFailure;
+        private final int from;
+        private final int to;
+
+        CombineTask(List<Result<T>> results, Object[] data, AtomicInteger firstFailure, int from, int to) {
+            this.results = results;
+            this.data = data;
+            this.firstFailure = firstFailure;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (from >= firstFailure.get()) {
+                return;
+            }
+            if (to - from > THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new CombineTask<>(results, data, firstFailure, from, mid),
+                        new CombineTask<>(results, data, firstFailure, mid, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                Result<T> result = results.get(i);
+                if (!result.isSuccess()) {
+                    recordFailure(i);
+                    return;
+                }
+                data[i] = result.getData();
+            }
+        }
+
+        private void recordFailure(int index) {
+            int current = firstFailure.get();
+            while (index < current && !firstFailure.compareAndSet(current, index)) {
+                current = firstFailure.get();
+            }
+        }
+    }
+}
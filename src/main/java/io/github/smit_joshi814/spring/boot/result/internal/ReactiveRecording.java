@@ -0,0 +1,36 @@
+package io.github.smit_joshi814.spring.boot.result.internal;
+
+import java.lang.reflect.Method;
+
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ResultOutcomeRecorderProvider;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.metrics.ResultOutcomeRecorder;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.util.context.ContextView;
+
+/**
+ * Notifies the outcome recorder of a Result answered on a WebFlux request.
+ *
+ * <p>WebFlux keeps the request observation in the Reactor context instead of a thread local, so
+ * {@code ObservationRegistry.getCurrentObservation()} is usually null on the event loop. The
+ * observation found in the context is made current while the recorder runs, so recorders marking
+ * the current observation see the request's one.</p>
+ */
+public final class ReactiveRecording {
+
+    private ReactiveRecording() {
+    }
+
+    public static void record(ContextView context, Method handler, boolean success, Error error) {
+        ResultOutcomeRecorder recorder = ResultOutcomeRecorderProvider.getRecorder();
+        Observation observation = context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+        if (observation == null || recorder == ResultOutcomeRecorder.NONE) {
+            recorder.record(handler, success, error);
+            return;
+        }
+        try (Observation.Scope scope = observation.openScope()) {
+            recorder.record(handler, success, error);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.smit_joshi814.spring.boot.result.reactive;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+
+import io.github.smit_joshi814.spring.boot.result.ResponseWrapper;
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.api.ResponseUtils;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streaming WebFlux responses for {@code Flux<Result<T>>}.
+ * 
+ * <p>Each Result is encoded and written as soon as it is emitted, one {@link ResponseWrapper} per
+ * NDJSON line or Server-Sent Event, so memory use does not depend on the number of elements. The
+ * status is always 200; every element carries its own {@code success} flag. This is the reactive
+ * counterpart of {@link io.github.smit_joshi814.spring.boot.result.servlet.ResultStream}.</p>
+ * 
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * @GetMapping("/users/export")
+ * public ResponseEntity<Flux<ResponseWrapper<UserDto>>> export() {
+ *     return ResultFlux.asNdjson(userService.exportAll());
+ * }
+ * }</pre>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class ResultFlux {
+
+    private ResultFlux() {
+    }
+
+    public static <T> ResponseEntity<Flux<ResponseWrapper<T>>> asNdjson(Flux<Result<T>> results) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results.map(ResponseUtils::asBody));
+    }
+
+    /**
+     * Streams Results as Server-Sent Events named {@code success} or {@code failure}.
+     * 
+     * @param <T> the type of data
+     * @param results the Results to stream
+     * @return streaming ResponseEntity with content type {@code text/event-stream}
+     */
+    public static <T> ResponseEntity<Flux<ServerSentEvent<ResponseWrapper<T>>>> asEventStream(
+            Flux<Result<T>> results) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(results.map(result -> ServerSentEvent.builder(ResponseUtils.asBody(result))
+                        .event(result.isSuccess() ? "success" : "failure")
+                        .build()));
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.smit_joshi814.spring.boot.result.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.api.ResponseUtils;
+import io.github.smit_joshi814.spring.boot.result.api.ResultClients;
+import io.github.smit_joshi814.spring.boot.result.domain.errors.Error;
+import io.github.smit_joshi814.spring.boot.result.infrastructure.config.ErrorProblemMapperProvider;
+import io.github.smit_joshi814.spring.boot.result.internal.ReactiveRecording;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactor operators for {@code Mono<Result<T>>}, for use on WebFlux event loops.
+ * 
+ * <p>Annotated WebFlux controllers can return {@code Result<T>} or {@code Mono<Result<T>>}
+ * directly; functional endpoints use {@link #asServerResponse(Mono)}. Both apply the same status
+ * mapping and error format as {@link ResponseUtils#asResponse(Result)}.</p>
+ * 
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * public Mono<ServerResponse> getUser(ServerRequest request) {
+ *     Mono<Result<User>> user = userService.findById(request.pathVariable("id"));
+ *     return ResultMono.asServerResponse(ResultMono.mapResult(user, UserDto::from));
+ * }
+ * }</pre>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class ResultMono {
+
+    public static final String EMPTY_CODE = "EMPTY_RESULT";
+
+    private ResultMono() {
+    }
+
+    public static <T> Mono<Result<T>> fromFuture(CompletableFuture<Result<T>> future) {
+        return Mono.fromFuture(future);
+    }
+
+    /**
+     * Applies {@link Result#map(Function)} to the emitted Result.
+     * 
+     * @param <T> the type of data
+     * @param <R> the type of mapped data
+     * @param mono the pending Result
+     * @param mapper the function applied to successful data
+     * @return the pending mapped Result
+     */
+    public static <T, R> Mono<Result<R>> mapResult(Mono<Result<T>> mono, Function<T, R> mapper) {
+        return mono.map(result -> result.map(mapper));
+    }
+
+    /**
+     * Chains an asynchronous step that only runs when the emitted Result holds data; failures are
+     * passed through unchanged.
+     * 
+     * @param <T> the type of data
+     * @param <R> the type of the next step's data
+     * @param mono the pending Result
+     * @param mapper the next step
+     * @return the pending Result of the next step, or the original failure
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Mono<Result<R>> flatMapResult(Mono<Result<T>> mono, Function<T, Mono<Result<R>>> mapper) {
+        return mono.flatMap(result -> {
+            if (result.isSuccess() && result.getData() != null) {
+                return mapper.apply(result.getData());
+            }
+            return Mono.just((Result<R>) (Result<?>) result);
+        });
+    }
+
+    /**
+     * Subscribes to all Results concurrently and combines them like {@link Result#combine(List)}.
+     * 
+     * <p>Results are consumed in list order; as soon as a failure is reached the remaining
+     * subscriptions are cancelled. A Mono completing without a Result counts as a failure with
+     * code {@value #EMPTY_CODE}, so the combined list never silently loses an element.</p>
+     * 
+     * @param <T> the type of data
+     * @param monos the pending Results
+     * @return the pending combined Result
+     */
+    public static <T> Mono<Result<List<T>>> combine(List<Mono<Result<T>>> monos) {
+        List<Mono<Result<T>>> nonEmpty = new ArrayList<>(monos.size());
+        for (Mono<Result<T>> mono : monos) {
+            nonEmpty.add(mono.switchIfEmpty(Mono.fromSupplier(ResultMono::emptyResult)));
+        }
+        return Flux.mergeSequential(nonEmpty)
+                .takeUntil(result -> !result.isSuccess())
+                .collectList()
+                .map(Result::combine);
+    }
+
+    public static <T> Function<ClientResponse, Mono<Result<T>>> fromResponse(Class<T> dataType) {
+        return fromResponse(ResultClients.resultType(dataType));
+    }
+
+    /**
+     * Returns a {@code WebClient} exchange function decoding the body into a Result whatever the
+     * status; see {@link ResultClients}.
+     * 
+     * <pre>{@code
+     * Mono<Result<User>> user = webClient.get()
+     *         .uri("/users/{id}", id)
+     *         .exchangeToMono(ResultMono.fromResponse(User.class));
+     * }</pre>
+     * 
+     * @param <T> the type of data
+     * @param resultType the {@code Result<T>} type, for generic data such as lists
+     * @return exchange function for {@code WebClient.RequestHeadersSpec#exchangeToMono}
+     */
+    public static <T> Function<ClientResponse, Mono<Result<T>>> fromResponse(
+            ParameterizedTypeReference<Result<T>> resultType) {
+        return response -> response.bodyToMono(resultType)
+                .switchIfEmpty(Mono.fromSupplier(() -> ResultClients.fromStatus(response.statusCode())));
+    }
+
+    /**
+     * Converts a Result into a functional endpoint response, with the status, body format and
+     * outcome recording of {@code ResponseUtils.asResponse}: failures are written as problem
+     * details when {@code result.web.error-format=problem-detail}.
+     * 
+     * @param <T> the type of data
+     * @param result the Result to convert
+     * @return the pending server response
+     */
+    public static <T> Mono<ServerResponse> asServerResponse(Result<T> result) {
+        return Mono.deferContextual(context -> {
+            ReactiveRecording.record(context, null, result.isSuccess(), result.getError());
+            return toServerResponse(result);
+        });
+    }
+
+    /**
+     * Converts a pending Result into a functional endpoint response, see
+     * {@link #asServerResponse(Result)}.
+     * 
+     * @param <T> the type of data
+     * @param mono the pending Result
+     * @return the pending server response
+     */
+    public static <T> Mono<ServerResponse> asServerResponse(Mono<Result<T>> mono) {
+        return mono.switchIfEmpty(Mono.fromSupplier(ResultMono::emptyResult))
+                .flatMap(ResultMono::asServerResponse);
+    }
+
+    /**
+     * Returns the Result standing for a Mono that completed without one: a failure with code
+     * {@value #EMPTY_CODE}. Used by {@link #combine}, {@link #asServerResponse(Mono)} and the
+     * WebFlux result handler, so an empty Mono is answered the same way everywhere.
+     * 
+     * @param <T> the type of data
+     * @return the empty-Mono failure
+     */
+    public static <T> Result<T> emptyResult() {
+        return Result.failure(Error.of(EMPTY_CODE, "Mono completed without a Result"));
+    }
+
+    private static <T> Mono<ServerResponse> toServerResponse(Result<T> result) {
+        if (!result.isSuccess() && ErrorProblemMapperProvider.isProblemDetails()) {
+            ProblemDetail problem = ErrorProblemMapperProvider.getErrorProblemMapper().toProblemDetail(result.getError());
+            return ServerResponse.status(problem.getStatus())
+                    .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                    .bodyValue(problem);
+        }
+        HttpStatus status = result.isSuccess() ? HttpStatus.OK : ResponseUtils.statusOf(result.getError());
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ResponseUtils.asBody(result));
+    }
+}
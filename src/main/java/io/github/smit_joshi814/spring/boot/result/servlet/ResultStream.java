@@ -0,0 +1,106 @@
+package io.github.smit_joshi814.spring.boot.result.servlet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.github.smit_joshi814.spring.boot.result.ResponseWrapper;
+import io.github.smit_joshi814.spring.boot.result.Result;
+import io.github.smit_joshi814.spring.boot.result.api.ResponseUtils;
+import io.github.smit_joshi814.spring.boot.result.reactive.ResultFlux;
+
+/**
+ * Streaming Spring MVC responses for {@code Stream<Result<T>>}.
+ * 
+ * <p>Each Result is serialized and flushed as soon as the stream produces it, one
+ * {@link ResponseWrapper} per NDJSON line or Server-Sent Event, so memory use does not grow with
+ * the number of elements and clients receive the first elements immediately. The status is always
+ * 200 since it is sent before any element is known; every element carries its own {@code success}
+ * flag. The stream is closed once written. This is the servlet counterpart of
+ * {@link ResultFlux}.</p>
+ * 
+ * <p>Elements are always written on a single line, even when the mapper enables
+ * {@link SerializationFeature#INDENT_OUTPUT}, since a line break inside an element would end the
+ * NDJSON line or the SSE {@code data} field.</p>
+ * 
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * @GetMapping("/users/export")
+ * public ResponseEntity<StreamingResponseBody> export() {
+ *     return ResultStream.asNdjson(userService.streamAll(), objectMapper);
+ * }
+ * }</pre>
+ * 
+ * @author Smit Joshi
+ * @see <a href="https://in.linkedin.com/in/smit-joshi814">LinkedIn Profile</a>
+ * @since 0.0.2
+ */
+public final class ResultStream {
+
+    private static final String NDJSON_LINE_END = "\n";
+    private static final String SSE_SUCCESS_EVENT = "event:success\ndata:";
+    private static final String SSE_FAILURE_EVENT = "event:failure\ndata:";
+    private static final String SSE_EVENT_END = "\n\n";
+
+    private ResultStream() {
+    }
+
+    /**
+     * Streams Results as newline-delimited JSON, one {@link ResponseWrapper} per line.
+     * 
+     * @param <T> the type of data
+     * @param results the Results to stream
+     * @param objectMapper the mapper used to serialize each element
+     * @return streaming ResponseEntity with content type {@code application/x-ndjson}
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> asNdjson(Stream<Result<T>> results,
+            ObjectMapper objectMapper) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> writeStream(results, objectMapper, out, false));
+    }
+
+    /**
+     * Streams Results as Server-Sent Events named {@code success} or {@code failure}, with the
+     * {@link ResponseWrapper} as data.
+     * 
+     * @param <T> the type of data
+     * @param results the Results to stream
+     * @param objectMapper the mapper used to serialize each element
+     * @return streaming ResponseEntity with content type {@code text/event-stream}
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> asEventStream(Stream<Result<T>> results,
+            ObjectMapper objectMapper) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(out -> writeStream(results, objectMapper, out, true));
+    }
+
+    private static <T> void writeStream(Stream<Result<T>> results, ObjectMapper objectMapper, OutputStream out,
+            boolean eventStream) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        try (results; JsonGenerator generator = writer.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            Iterator<Result<T>> iterator = results.iterator();
+            while (iterator.hasNext()) {
+                Result<T> result = iterator.next();
+                if (eventStream) {
+                    generator.writeRaw(result.isSuccess() ? SSE_SUCCESS_EVENT : SSE_FAILURE_EVENT);
+                }
+                writer.writeValue(generator, ResponseUtils.asBody(result));
+                generator.writeRaw(eventStream ? SSE_EVENT_END : NDJSON_LINE_END);
+                generator.flush();
+            }
+        }
+    }
+}